@@ -0,0 +1,289 @@
+import java.util.*;
+
+/**
+ * Aho-Corasick 다중 패턴 매칭 오토마톤
+ * 패턴 집합으로 한 번 구축하면 텍스트 길이 n에 대해 O(n + 매칭 수)로 모든 패턴을 동시에 찾음
+ * - 패턴에 나오는 문자만 1..A 번호로 압축 (나머지 문자는 0 = 루트로 돌아감)
+ * - A가 작으면 실패 링크까지 미리 반영한 완전 전이표 int[상태 * (A + 1)] (문자당 배열 접근 1번)
+ * - A가 크면 상태별로 정렬된 간선 배열(CSR) + 실패 링크 (메모리 O(상태 수))
+ * 구축 후에는 모든 필드가 불변이라 여러 스레드가 동시에 서로 다른 문서를 검색해도 안전
+ */
+public class AhoCorasick {
+
+    // 압축된 알파벳 크기가 이 값 이하이면 완전 전이표 사용
+    static final int DENSE_ALPHABET_LIMIT = 64;
+    // 완전 전이표 칸 수가 이 값을 넘으면 간선 배열 사용 (int 2^24개 = 64MB)
+    static final long DENSE_TABLE_LIMIT = 1L << 24;
+
+    // 매칭마다 호출, text[start, end)가 patternId번 패턴과 일치, false를 반환하면 중단
+    @FunctionalInterface
+    public interface MatchHandler {
+        boolean onMatch(int patternId, int start, int end);
+    }
+
+    private final int[] charIds;          // 문자 -> 압축 번호 (0 = 패턴에 없는 문자)
+    private final int alphabet;            // 압축 번호 개수 + 1
+    private final int[] patternLengths;
+
+    // 완전 전이표 (dense 모드), 아니면 null
+    private final int[] delta;
+
+    // 간선 배열 (sparse 모드): 상태 s의 간선은 [edgeStart[s], edgeStart[s + 1])
+    private final int[] edgeStart;
+    private final int[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] fail;
+
+    // 출력: 상태 s에서 끝나는 패턴들은 outputs[outStart[s], outStart[s + 1]),
+    // 그다음은 dictLink[s] (실패 링크를 따라 처음 만나는 출력 있는 상태, 없으면 -1)
+    private final int[] outStart;
+    private final int[] outputs;
+    private final int[] dictLink;
+
+    // 1. 패턴 집합으로 오토마톤 구축 (패턴 번호 = 리스트 순서)
+    public static AhoCorasick build(List<? extends CharSequence> patterns) {
+        return new AhoCorasick(patterns);
+    }
+
+    public static AhoCorasick build(CharSequence... patterns) {
+        return new AhoCorasick(Arrays.asList(patterns));
+    }
+
+    private AhoCorasick(List<? extends CharSequence> patterns) {
+        // 알파벳 압축
+        charIds = new int[Character.MAX_VALUE + 1];
+        int ids = 0;
+        patternLengths = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            CharSequence pattern = patterns.get(p);
+            if (pattern.length() == 0) {
+                throw new IllegalArgumentException("빈 패턴: " + p);
+            }
+            patternLengths[p] = pattern.length();
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (charIds[c] == 0) charIds[c] = ++ids;
+            }
+        }
+        alphabet = ids + 1;
+
+        // 트라이 구축 (자식은 연결 리스트로 임시 보관)
+        Trie trie = new Trie();
+        int[] terminal = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            CharSequence pattern = patterns.get(p);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                state = trie.childOrAdd(state, charIds[pattern.charAt(i)]);
+            }
+            terminal[p] = state;
+        }
+        int states = trie.size;
+
+        // BFS 순서로 실패 링크 계산
+        int[] order = new int[states];
+        int[] failLinks = new int[states];
+        int head = 0, tail = 0;
+        order[tail++] = 0;
+        while (head < tail) {
+            int s = order[head++];
+            for (int e = trie.firstChild[s]; e >= 0; e = trie.nextSibling[e]) {
+                int child = e;
+                order[tail++] = child;
+                if (s == 0) {
+                    failLinks[child] = 0;
+                } else {
+                    int f = failLinks[s];
+                    int next;
+                    while ((next = trie.child(f, trie.label[child])) < 0 && f != 0) f = failLinks[f];
+                    failLinks[child] = next >= 0 ? next : 0;
+                }
+            }
+        }
+        this.fail = failLinks;
+
+        // 출력 목록과 사전 링크
+        int[] ownCount = new int[states + 1];
+        for (int t : terminal) ownCount[t + 1]++;
+        for (int s = 0; s < states; s++) ownCount[s + 1] += ownCount[s];
+        outStart = ownCount;
+        outputs = new int[patterns.size()];
+        int[] fill = Arrays.copyOf(outStart, states);
+        for (int p = 0; p < terminal.length; p++) outputs[fill[terminal[p]]++] = p;
+        dictLink = new int[states];
+        dictLink[0] = -1;
+        for (int k = 1; k < states; k++) {
+            int s = order[k];
+            int f = failLinks[s];
+            dictLink[s] = outStart[f + 1] > outStart[f] ? f : dictLink[f];
+        }
+
+        if (alphabet <= DENSE_ALPHABET_LIMIT && (long) states * alphabet <= DENSE_TABLE_LIMIT) {
+            // 완전 전이표: 없는 간선은 실패 상태의 전이를 그대로 복사 (BFS 순서라 이미 계산됨)
+            delta = new int[states * alphabet];
+            for (int k = 0; k < states; k++) {
+                int s = order[k];
+                int row = s * alphabet;
+                if (s != 0) System.arraycopy(delta, failLinks[s] * alphabet, delta, row, alphabet);
+                for (int e = trie.firstChild[s]; e >= 0; e = trie.nextSibling[e]) {
+                    delta[row + trie.label[e]] = e;
+                }
+            }
+            edgeStart = edgeLabel = edgeTarget = null;
+        } else {
+            // 간선 배열: 상태별로 라벨 순 정렬
+            delta = null;
+            edgeStart = new int[states + 1];
+            edgeLabel = new int[states - 1];
+            edgeTarget = new int[states - 1];
+            int pos = 0;
+            for (int s = 0; s < states; s++) {
+                edgeStart[s] = pos;
+                for (int e = trie.firstChild[s]; e >= 0; e = trie.nextSibling[e]) {
+                    int j = pos++;
+                    // 삽입 정렬 (상태 하나의 자식 수는 작음)
+                    while (j > edgeStart[s] && edgeLabel[j - 1] > trie.label[e]) {
+                        edgeLabel[j] = edgeLabel[j - 1];
+                        edgeTarget[j] = edgeTarget[j - 1];
+                        j--;
+                    }
+                    edgeLabel[j] = trie.label[e];
+                    edgeTarget[j] = e;
+                }
+            }
+            edgeStart[states] = pos;
+        }
+    }
+
+    // 구축용 트라이: 상태 번호 = 노드 번호, 자식은 firstChild/nextSibling 연결 리스트
+    private static class Trie {
+        int[] label = new int[16];
+        int[] firstChild = new int[16];
+        int[] nextSibling = new int[16];
+        int size = 1;
+
+        Trie() {
+            firstChild[0] = -1;
+            nextSibling[0] = -1;
+        }
+
+        int child(int state, int c) {
+            for (int e = firstChild[state]; e >= 0; e = nextSibling[e]) {
+                if (label[e] == c) return e;
+            }
+            return -1;
+        }
+
+        int childOrAdd(int state, int c) {
+            int existing = child(state, c);
+            if (existing >= 0) return existing;
+            if (size == label.length) {
+                label = Arrays.copyOf(label, size * 2);
+                firstChild = Arrays.copyOf(firstChild, size * 2);
+                nextSibling = Arrays.copyOf(nextSibling, size * 2);
+            }
+            int node = size++;
+            label[node] = c;
+            firstChild[node] = -1;
+            nextSibling[node] = firstChild[state];
+            firstChild[state] = node;
+            return node;
+        }
+    }
+
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    public int stateCount() {
+        return dictLink.length;
+    }
+
+    boolean isDense() {
+        return delta != null;
+    }
+
+    // 상태 s에서 문자 c를 읽은 다음 상태
+    private int next(int s, char c) {
+        int id = charIds[c];
+        if (delta != null) return delta[s * alphabet + id];
+        if (id == 0) return 0;
+        while (true) {
+            int lo = edgeStart[s], hi = edgeStart[s + 1] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int l = edgeLabel[mid];
+                if (l == id) return edgeTarget[mid];
+                if (l < id) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            if (s == 0) return 0;
+            s = fail[s];
+        }
+    }
+
+    // 상태 s에서 끝나는 모든 패턴을 보고 (end = 현재 위치 + 1)
+    private boolean report(int s, int end, MatchHandler handler) {
+        if (outStart[s + 1] == outStart[s]) s = dictLink[s];
+        while (s >= 0) {
+            for (int k = outStart[s]; k < outStart[s + 1]; k++) {
+                int p = outputs[k];
+                if (!handler.onMatch(p, end - patternLengths[p], end)) return false;
+            }
+            s = dictLink[s];
+        }
+        return true;
+    }
+
+    // 2. 텍스트의 [from, to)에서 모든 매칭을 handler로 전달 (검색 중 할당 없음)
+    public void scan(CharSequence text, int from, int to, MatchHandler handler) {
+        if (from < 0 || to > text.length() || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + text.length());
+        }
+        int s = 0;
+        for (int i = from; i < to; i++) {
+            s = next(s, text.charAt(i));
+            if (s != 0 && !report(s, i + 1, handler)) return;
+        }
+    }
+
+    public void scan(CharSequence text, MatchHandler handler) {
+        scan(text, 0, text.length(), handler);
+    }
+
+    public void scan(char[] text, int from, int to, MatchHandler handler) {
+        if (from < 0 || to > text.length || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + text.length);
+        }
+        int s = 0;
+        for (int i = from; i < to; i++) {
+            s = next(s, text[i]);
+            if (s != 0 && !report(s, i + 1, handler)) return;
+        }
+    }
+
+    // 3. 패턴 하나라도 포함하는지
+    public boolean containsAny(CharSequence text) {
+        boolean[] found = {false};
+        scan(text, (id, start, end) -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== Aho-Corasick 테스트 =====\n");
+
+        AhoCorasick ac = build("he", "she", "his", "hers");
+        System.out.println("1. 'ushers'에서 찾은 패턴:");
+        ac.scan("ushers", (id, start, end) -> {
+            System.out.println("   패턴 " + id + " [" + start + ", " + end + ")");
+            return true;
+        });
+
+        System.out.println("2. 'history' 포함 여부: " + ac.containsAny("history"));
+        System.out.println("3. 상태 수: " + ac.stateCount() + ", 완전 전이표 사용: " + ac.isDense());
+    }
+}
@@ -0,0 +1,115 @@
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * 정렬 없이 문자 개수를 세서 아나그램을 판별 / 묶는 유틸리티
+ * - isAnagram: 길이가 다르면 바로 false, ASCII는 int[128] 한 장에 +1/-1로 O(n)
+ *   ASCII가 아닌 문자가 나오면 IntIntHashMap으로 코드 포인트 개수를 비교
+ * - signature: 문자별 개수로 만든 정규형 키 (아나그램끼리만 같음)
+ * - groupAnagrams: 키 계산과 묶기를 병렬 스트림으로 처리, 전체 O(총 글자 수)
+ */
+public class Anagrams {
+
+    private static final int ASCII = 128;
+
+    // 1. 두 문자열이 아나그램인지 (대소문자 구분)
+    public static boolean isAnagram(CharSequence a, CharSequence b) {
+        int n = a.length();
+        if (n != b.length()) return false;
+        int[] counts = new int[ASCII];
+        for (int i = 0; i < n; i++) {
+            char x = a.charAt(i), y = b.charAt(i);
+            if ((x | y) >= ASCII) return isAnagramUnicode(a, b);
+            counts[x]++;
+            counts[y]--;
+        }
+        for (int c : counts) {
+            if (c != 0) return false;
+        }
+        return true;
+    }
+
+    // 서로게이트 쌍을 하나의 코드 포인트로 세야 정확함
+    private static boolean isAnagramUnicode(CharSequence a, CharSequence b) {
+        IntIntHashMap counts = new IntIntHashMap(java.lang.Math.min(a.length(), 1024));
+        for (int i = 0; i < a.length(); ) {
+            int cp = Character.codePointAt(a, i);
+            counts.addTo(cp, 1);
+            i += Character.charCount(cp);
+        }
+        for (int i = 0; i < b.length(); ) {
+            int cp = Character.codePointAt(b, i);
+            // 0이 되면 지워서 마지막에 크기만 확인
+            if (counts.addTo(cp, -1) == 0) counts.remove(cp);
+            i += Character.charCount(cp);
+        }
+        return counts.size() == 0;
+    }
+
+    // 2. 정규형 키: 나온 문자마다 (문자, 개수)를 문자 순서대로
+    // ASCII 단어는 int[128]로 세고, 그 외는 코드 포인트를 IntIntHashMap으로 센 뒤 서로 다른 코드 포인트만 정렬
+    public static java.lang.String signature(CharSequence word) {
+        int n = word.length();
+        int min = ASCII, max = -1;
+        for (int i = 0; i < n; i++) {
+            char c = word.charAt(i);
+            if (c >= ASCII) return unicodeSignature(word);
+            if (c < min) min = c;
+            if (c > max) max = c;
+        }
+        // 실제로 나온 문자 범위만 훑음 (소문자 단어면 최대 26칸)
+        int[] counts = new int[ASCII];
+        for (int i = 0; i < n; i++) counts[word.charAt(i)]++;
+        StringBuilder key = new StringBuilder();
+        for (int c = min; c <= max; c++) {
+            if (counts[c] == 0) continue;
+            // 글자마다 (문자, 개수 상위 16비트, 하위 16비트) 고정 폭이라 서로 다른 개수가 같은 키가 되지 않음
+            key.append((char) c).append((char) (counts[c] >>> 16)).append((char) counts[c]);
+        }
+        return key.toString();
+    }
+
+    // O(n + d log d), d = 서로 다른 코드 포인트 수 (한글 단어처럼 글자가 반복될수록 정렬할 양이 줄어듦)
+    private static java.lang.String unicodeSignature(CharSequence word) {
+        IntIntHashMap counts = new IntIntHashMap(java.lang.Math.min(word.length(), 1024));
+        for (int i = 0; i < word.length(); ) {
+            int cp = Character.codePointAt(word, i);
+            counts.addTo(cp, 1);
+            i += Character.charCount(cp);
+        }
+        int[] distinct = counts.keysToArray();
+        Arrays.sort(distinct);
+        // 코드 포인트와 개수를 각각 2글자 고정 폭으로 (다시 인코딩하면 짝 없는 서로게이트끼리 합쳐질 수 있음)
+        // 맨 앞의 구분 문자로 ASCII 키와 겹치지 않게 함 (ASCII 키의 첫 글자는 항상 0x80 미만)
+        char[] key = new char[1 + 4 * distinct.length];
+        key[0] = '\uFFFF';
+        for (int i = 0, k = 1; i < distinct.length; i++) {
+            int cp = distinct[i], count = counts.get(cp);
+            key[k++] = (char) (cp >>> 16);
+            key[k++] = (char) cp;
+            key[k++] = (char) (count >>> 16);
+            key[k++] = (char) count;
+        }
+        return new java.lang.String(key);
+    }
+
+    // 3. 아나그램끼리 묶기 (그룹은 처음 등장한 순서, 그룹 안은 입력 순서)
+    public static List<List<java.lang.String>> groupAnagrams(List<java.lang.String> words) {
+        java.lang.String[] keys = new java.lang.String[words.size()];
+        IntStream.range(0, keys.length).parallel().forEach(i -> keys[i] = signature(words.get(i)));
+        Map<java.lang.String, List<java.lang.String>> groups = IntStream.range(0, keys.length).parallel().boxed()
+            .collect(Collectors.groupingBy(i -> keys[i], LinkedHashMap::new,
+                Collectors.mapping(words::get, Collectors.toList())));
+        return new ArrayList<>(groups.values());
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 아나그램 테스트 =====\n");
+
+        System.out.println("1. 'listen', 'silent': " + isAnagram("listen", "silent"));
+        System.out.println("2. '가나다', '다가나': " + isAnagram("가나다", "다가나"));
+        System.out.println("3. 'below', 'elbow' 키가 같은지: " + signature("below").equals(signature("elbow")));
+        System.out.println("4. 묶기: " + groupAnagrams(Arrays.asList("eat", "tea", "tan", "ate", "nat", "bat")));
+    }
+}
@@ -5,14 +5,13 @@ import java.util.*;
  */
 public class Array {
 
-    // 1. 배열의 최댓값, 최솟값, 합
-    public static void arrayStats(int[] arr) {
-        int max = Arrays.stream(arr).max().orElse(Integer.MIN_VALUE);
-        int min = Arrays.stream(arr).min().orElse(Integer.MAX_VALUE);
-        int sum = Arrays.stream(arr).sum();
-        double avg = Arrays.stream(arr).average().orElse(0.0);
+    // 1. 배열의 최댓값, 최솟값, 합 (한 번의 순회로 계산, 합은 long)
+    public static IntStats arrayStats(int[] arr) {
+        IntStats stats = arr.length > IntStats.PARALLEL_THRESHOLD ? IntStats.ofParallel(arr) : IntStats.of(arr);
         
-        System.out.println("Max: " + max + ", Min: " + min + ", Sum: " + sum + ", Avg: " + avg);
+        System.out.println("Max: " + stats.getMax() + ", Min: " + stats.getMin()
+            + ", Sum: " + stats.getSum() + ", Avg: " + stats.getMean());
+        return stats;
     }
 
     // 2. 두 배열의 교집합
@@ -29,23 +28,14 @@ public class Array {
         return new ArrayList<>(result);
     }
 
-    // 3. 배열 회전 (오른쪽으로 k칸 이동)
+    // 3. 배열 회전 (오른쪽으로 k칸 이동, 음수면 왼쪽)
     public static void rotateRight(int[] arr, int k) {
-        if (arr.length == 0) return;
-        k = k % arr.length;
-        reverse(arr, 0, arr.length - 1);
-        reverse(arr, 0, k - 1);
-        reverse(arr, k, arr.length - 1);
+        Rotation.rotateRight(arr, k);
     }
 
-    private static void reverse(int[] arr, int start, int end) {
-        while (start < end) {
-            int temp = arr[start];
-            arr[start] = arr[end];
-            arr[end] = temp;
-            start++;
-            end--;
-        }
+    // 배열 회전 (왼쪽으로 k칸 이동, 음수면 오른쪽)
+    public static void rotateLeft(int[] arr, int k) {
+        Rotation.rotateLeft(arr, k);
     }
 
     // 4. 중복 제거
@@ -109,6 +99,175 @@ public class Array {
         return freq;
     }
 
+    // 9. 빈도수 계산 (박싱 없는 버전)
+    // 값의 범위가 좁으면 int[] 히스토그램으로 세고, 넓으면 IntIntHashMap에 바로 셈
+    static final int DENSE_RANGE_LIMIT = 1 << 16;
+
+    public static IntIntHashMap frequencyCounts(int[] arr) {
+        if (arr.length == 0) return new IntIntHashMap();
+
+        int min = arr[0], max = arr[0];
+        for (int num : arr) {
+            if (num < min) min = num;
+            if (num > max) max = num;
+        }
+
+        long range = (long) max - min + 1;
+        if (range > DENSE_RANGE_LIMIT && range > arr.length) {
+            IntIntHashMap freq = new IntIntHashMap();
+            for (int num : arr) {
+                freq.addTo(num, 1);
+            }
+            return freq;
+        }
+
+        int[] hist = frequencyHistogram(arr, min, max);
+        int distinct = 0;
+        for (int count : hist) {
+            if (count != 0) distinct++;
+        }
+        IntIntHashMap freq = new IntIntHashMap(distinct);
+        for (int i = 0; i < hist.length; i++) {
+            if (hist[i] != 0) freq.put(min + i, hist[i]);
+        }
+        return freq;
+    }
+
+    // 10. 범위가 [min, max]로 정해진 값들의 히스토그램 (hist[v - min] = v의 빈도)
+    public static int[] frequencyHistogram(int[] arr, int min, int max) {
+        long range = (long) max - min + 1;
+        if (range <= 0 || range > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("잘못된 범위: [" + min + ", " + max + "]");
+        }
+        int[] hist = new int[(int) range];
+        for (int num : arr) {
+            if (num < min || num > max) {
+                throw new IllegalArgumentException("범위를 벗어난 값: " + num);
+            }
+            hist[num - min]++;
+        }
+        return hist;
+    }
+
+    // 11. 두 배열의 교집합 (박싱 없이 int[] 반환, 순서를 모르므로 비트셋 / 해시셋)
+    public static int[] intersectionInts(int[] arr1, int[] arr2) {
+        return Intersection.intersect(arr1, arr2);
+    }
+
+    // 12. 부분배열의 최대합 (long 누적, 시작/끝 인덱스 포함, 큰 배열은 병렬)
+    public static MaxSubarray maxSubarray(int[] arr) {
+        if (arr.length == 0) {
+            throw new IllegalArgumentException("빈 배열");
+        }
+        return arr.length > MaxSubarray.PARALLEL_THRESHOLD ? MaxSubarray.ofParallel(arr) : MaxSubarray.of(arr);
+    }
+
+    // 13. 정렬된 배열 여러 개 합치기 (패자 트리 k-way 병합)
+    public static int[] mergeSorted(int[]... runs) {
+        return KWayMerge.merge(runs);
+    }
+
+    // 14. 상위 k개 빈발 원소 (Space-Saving, 메모리는 capacity개 카운터로 고정)
+    // 빈도가 전체의 1 / capacity 보다 큰 원소는 반드시 포함됨
+    public static int[] heavyHitters(int[] arr, int k, int capacity) {
+        FrequencySketch.SpaceSaving sketch = new FrequencySketch.SpaceSaving(capacity);
+        sketch.addAll(arr);
+        return sketch.topK(k);
+    }
+
+    // 15. 특정 원소를 끝으로 이동 (병렬, 블록 누적합 기반 안정 압축, 추가 메모리 없음)
+    public static void moveElementParallel(int[] arr, int target) {
+        ParallelScan.compact(arr, target);
+    }
+
+    // 16. 정렬된 두 배열의 교집합 (정렬은 호출자가 보장, 길이 차이가 크면 갤로핑)
+    public static int[] intersectionSortedInts(int[] arr1, int[] arr2) {
+        return Intersection.intersectSorted(arr1, arr2);
+    }
+
+    // ===== IntArray 버전 (힙 int[] 또는 메모리 매핑 파일에 그대로 동작, long 인덱스) =====
+
+    // IntArray - 배열 회전 (오른쪽으로 k칸 이동, 음수면 왼쪽, 제자리)
+    public static void rotateRight(IntArray arr, long k) {
+        long n = arr.length();
+        if (n == 0) return;
+        k = java.lang.Math.floorMod(k, n);
+        reverse(arr, 0, n - 1);
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+    }
+
+    private static void reverse(IntArray arr, long start, long end) {
+        while (start < end) {
+            arr.swap(start++, end--);
+        }
+    }
+
+    // IntArray - 특정 원소를 끝으로 이동 (제자리)
+    public static void moveElement(IntArray arr, int target) {
+        long n = arr.length();
+        long write = 0;
+        for (long i = 0; i < n; i++) {
+            int value = arr.get(i);
+            if (value != target) {
+                if (write != i) arr.set(write, value);
+                write++;
+            }
+        }
+        while (write < n) {
+            arr.set(write++, target);
+        }
+    }
+
+    // IntArray - 정렬된 두 배열을 out에 합치기 (out 길이 = arr1 길이 + arr2 길이)
+    public static void mergeSorted(IntArray arr1, IntArray arr2, IntArray out) {
+        long n1 = arr1.length(), n2 = arr2.length();
+        if (out.length() != n1 + n2) {
+            throw new IllegalArgumentException("out 길이가 맞지 않음: " + out.length() + " != " + (n1 + n2));
+        }
+        long i = 0, j = 0, k = 0;
+        while (i < n1 && j < n2) {
+            int a = arr1.get(i), b = arr2.get(j);
+            if (a <= b) {
+                out.set(k++, a);
+                i++;
+            } else {
+                out.set(k++, b);
+                j++;
+            }
+        }
+        while (i < n1) {
+            out.set(k++, arr1.get(i++));
+        }
+        while (j < n2) {
+            out.set(k++, arr2.get(j++));
+        }
+    }
+
+    // IntArray - 부분배열의 최대합 (long 누적)
+    public static long maxSubarraySum(IntArray arr) {
+        if (arr.length() == 0) {
+            throw new IllegalArgumentException("빈 배열");
+        }
+        long maxSoFar = arr.get(0);
+        long maxEndingHere = maxSoFar;
+        for (long i = 1; i < arr.length(); i++) {
+            int x = arr.get(i);
+            maxEndingHere = maxEndingHere < 0 ? x : maxEndingHere + x;
+            if (maxEndingHere > maxSoFar) maxSoFar = maxEndingHere;
+        }
+        return maxSoFar;
+    }
+
+    // IntArray - 빈도수 계산 (박싱 없음)
+    public static IntIntHashMap frequencyCounts(IntArray arr) {
+        IntIntHashMap freq = new IntIntHashMap();
+        for (long i = 0; i < arr.length(); i++) {
+            freq.addTo(arr.get(i), 1);
+        }
+        return freq;
+    }
+
     // ==================== 테스트 코드 ====================
     public static void main(String[] args) {
         System.out.println("===== 배열 메서드 테스트 =====\n");
@@ -160,5 +319,47 @@ public class Array {
         // 8. 빈도수 계산
         int[] arr8 = {1, 1, 2, 2, 2, 3, 3, 3, 3};
         System.out.println("8. 빈도수: " + frequencyMap(arr8));
+        System.out.println();
+
+        // 9. 빈도수 계산 (박싱 없음)
+        System.out.println("9. 빈도수 (IntIntHashMap): " + frequencyCounts(arr8).toMap());
+        System.out.println();
+
+        // 10. 히스토그램
+        System.out.println("10. 히스토그램 [1, 3]: " + Arrays.toString(frequencyHistogram(arr8, 1, 3)));
+        System.out.println();
+
+        // 11. 교집합 (int[])
+        System.out.println("11. 교집합 (int[]): " + Arrays.toString(intersectionInts(a, b)));
+        System.out.println();
+
+        // 12. 최대 부분배열 (인덱스 포함)
+        MaxSubarray best = maxSubarray(arr6);
+        System.out.println("12. 최대 부분배열: " + best.getBest() + " [" + best.getStart() + ", " + best.getEnd() + "]");
+        System.out.println();
+
+        // 13. 여러 정렬 배열 합치기
+        int[] sorted3 = {0, 7, 8};
+        System.out.println("13. k-way 병합: " + Arrays.toString(mergeSorted(sorted1, sorted2, sorted3)));
+        System.out.println();
+
+        // 14. 상위 k개 빈발 원소
+        System.out.println("14. 상위 2개 빈발 원소: " + Arrays.toString(heavyHitters(arr8, 2, 8)));
+        System.out.println();
+
+        // 15. 원소 이동 (병렬)
+        int[] arr15 = {1, 2, 0, 3, 0, 4};
+        moveElementParallel(arr15, 0);
+        System.out.println("15. 0을 끝으로 이동 (병렬): " + Arrays.toString(arr15));
+        System.out.println();
+
+        // 16. 정렬된 배열 교집합
+        System.out.println("16. 정렬된 배열 교집합: " + Arrays.toString(intersectionSortedInts(sorted1, sorted2)));
+        System.out.println();
+
+        // IntArray (힙 배열 감싸기, 매핑 파일도 같은 방식으로 동작)
+        int[] arrMapped = {1, 2, 3, 4, 5};
+        rotateRight(IntArray.wrap(arrMapped), 2L);
+        System.out.println("IntArray 회전: " + Arrays.toString(arrMapped));
     }
 }
@@ -144,6 +144,485 @@ public class ArrayTest {
         assertEquals(5, result);
     }
 
+    @Test
+    @DisplayName("빈도수 계산 - IntIntHashMap (좁은 범위)")
+    void testFrequencyCountsDense() {
+        int[] arr = {1, 1, 2, 2, 2, 3, 3, 3, 3};
+        IntIntHashMap freq = Array.frequencyCounts(arr);
+
+        assertEquals(3, freq.size());
+        assertEquals(2, freq.get(1));
+        assertEquals(3, freq.get(2));
+        assertEquals(4, freq.get(3));
+        assertEquals(Array.frequencyMap(arr), freq.toMap());
+    }
+
+    @Test
+    @DisplayName("빈도수 계산 - IntIntHashMap (넓은 범위, 0과 음수 포함)")
+    void testFrequencyCountsSparse() {
+        int[] arr = {0, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -7, Integer.MAX_VALUE};
+        IntIntHashMap freq = Array.frequencyCounts(arr);
+
+        assertEquals(Array.frequencyMap(arr), freq.toMap());
+        assertEquals(2, freq.get(0));
+        assertFalse(freq.containsKey(1));
+    }
+
+    @Test
+    @DisplayName("IntIntHashMap - 확장과 삭제")
+    void testIntIntHashMapResizeAndRemove() {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int i = 0; i < 10000; i++) {
+            map.put(i * 31, i);
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            assertEquals(i, map.remove(i * 31));
+        }
+
+        assertEquals(5000, map.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i % 2 == 1, map.containsKey(i * 31));
+        }
+    }
+
+    @Test
+    @DisplayName("배열 교집합 (int[]) - 정렬된 입력은 병합/갤로핑")
+    void testIntersectionIntsSorted() {
+        int[] small = {3, 3, 50, 998, 2001};
+        int[] large = new int[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2;
+        }
+
+        assertArrayEquals(new int[]{50, 998}, Array.intersectionSortedInts(small, large));
+        assertArrayEquals(new int[]{2, 4}, Array.intersectionSortedInts(new int[]{1, 2, 2, 4}, new int[]{2, 3, 4, 4}));
+        // 순서를 모르는 진입점도 같은 결과 (큰 배열 순서 = 오름차순)
+        assertArrayEquals(new int[]{50, 998}, Array.intersectionInts(small, large));
+    }
+
+    @Test
+    @DisplayName("배열 교집합 (int[]) - 비정렬 입력은 비트셋/해시셋")
+    void testIntersectionIntsUnsorted() {
+        int[] dense = Array.intersectionInts(new int[]{4, 1, 3, 2, 2}, new int[]{6, 2, 5, 4, 3});
+        assertArrayEquals(new int[]{2, 4, 3}, dense);
+
+        int[] sparse = Array.intersectionInts(new int[]{Integer.MAX_VALUE, 0, -1}, new int[]{-1, 7, Integer.MAX_VALUE, -1});
+        assertArrayEquals(new int[]{-1, Integer.MAX_VALUE}, sparse);
+    }
+
+    @Test
+    @DisplayName("배열 교집합 - 출력 버퍼 재사용과 다중 교집합")
+    void testIntersectionBufferAndMultiWay() {
+        int[] out = new int[8];
+        int n = Intersection.intersect(new int[]{1, 2, 3}, new int[]{2, 3, 4}, out);
+        assertEquals(2, n);
+        assertEquals(2, out[0]);
+        assertEquals(3, out[1]);
+
+        assertArrayEquals(new int[]{5, 7},
+            Intersection.intersectAll(new int[]{1, 3, 5, 7, 9}, new int[]{3, 4, 5, 6, 7}, new int[]{5, 7, 11}));
+        assertArrayEquals(new int[]{5, 7},
+            Intersection.intersectAllSorted(new int[]{1, 3, 5, 7, 9}, new int[]{3, 4, 5, 6, 7}, new int[]{5, 7, 11}));
+        assertArrayEquals(new int[]{7, 5},
+            Intersection.intersectAll(new int[]{9, 7, 5, 3}, new int[]{5, 7}, new int[]{11, 7, 5}));
+    }
+
+    @Test
+    @DisplayName("배열 통계 - 한 번의 순회, long 합")
+    void testArrayStats() {
+        IntStats stats = Array.arrayStats(new int[]{3, 1, 4, 1, 5, 9, 2, 6});
+
+        assertEquals(8, stats.getCount());
+        assertEquals(1, stats.getMin());
+        assertEquals(9, stats.getMax());
+        assertEquals(31, stats.getSum());
+        assertEquals(3.875, stats.getMean(), 1e-9);
+        assertEquals(6.609375, stats.getVariance(), 1e-9);
+
+        IntStats overflow = IntStats.of(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE});
+        assertEquals(2L * Integer.MAX_VALUE, overflow.getSum());
+    }
+
+    @Test
+    @DisplayName("배열 통계 - 병렬 계산과 combine 결과가 순차 계산과 같음")
+    void testIntStatsParallelAndCombine() {
+        int[] arr = new int[300_000];
+        Random random = new Random(42);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(2001) - 1000;
+        }
+        IntStats sequential = IntStats.of(arr);
+        IntStats parallel = IntStats.ofParallel(arr);
+
+        assertEquals(sequential.getSum(), parallel.getSum());
+        assertEquals(sequential.getMin(), parallel.getMin());
+        assertEquals(sequential.getMax(), parallel.getMax());
+        assertEquals(sequential.getVariance(), parallel.getVariance(), 1e-6);
+
+        IntStats combined = IntStats.of(arr, 0, 1000).combine(IntStats.of(arr, 1000, arr.length));
+        assertEquals(sequential.getCount(), combined.getCount());
+        assertEquals(sequential.getMean(), combined.getMean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("부분배열의 최대합 - 시작/끝 인덱스")
+    void testMaxSubarrayIndices() {
+        int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        MaxSubarray result = Array.maxSubarray(arr);
+
+        assertEquals(6, result.getBest());
+        assertEquals(3, result.getStart());
+        assertEquals(6, result.getEnd());
+    }
+
+    @Test
+    @DisplayName("부분배열의 최대합 - 병렬/증분 결과가 순차 결과와 같음")
+    void testMaxSubarrayParallelAndAppend() {
+        int[] arr = new int[300_000];
+        Random random = new Random(7);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(2001) - 1000;
+        }
+        MaxSubarray sequential = MaxSubarray.of(arr);
+        MaxSubarray parallel = MaxSubarray.ofParallel(arr);
+        MaxSubarray incremental = new MaxSubarray()
+            .append(Arrays.copyOfRange(arr, 0, 12345))
+            .append(Arrays.copyOfRange(arr, 12345, arr.length));
+
+        assertEquals(sequential.getBest(), parallel.getBest());
+        assertEquals(sequential.getBest(), incremental.getBest());
+        long sum = 0;
+        for (long i = parallel.getStart(); i <= parallel.getEnd(); i++) {
+            sum += arr[(int) i];
+        }
+        assertEquals(sequential.getBest(), sum);
+    }
+
+    @Test
+    @DisplayName("부분배열의 최대합 - int 범위를 넘는 합")
+    void testMaxSubarrayLongSum() {
+        int[] arr = {Integer.MAX_VALUE, Integer.MAX_VALUE, -1, Integer.MAX_VALUE};
+        MaxSubarray result = Array.maxSubarray(arr);
+
+        assertEquals(3L * Integer.MAX_VALUE - 1, result.getBest());
+        assertEquals(0, result.getStart());
+        assertEquals(3, result.getEnd());
+    }
+
+    @Test
+    @DisplayName("정렬된 여러 배열 합치기 - k-way 병합")
+    void testMergeSortedKWay() {
+        int[] result = Array.mergeSorted(new int[]{1, 4, 7}, new int[]{}, new int[]{2, 5, 8}, new int[]{0, 3, 6, 9});
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, result);
+    }
+
+    @Test
+    @DisplayName("정렬된 여러 배열 합치기 - 병렬 병합과 배치 sink")
+    void testMergeSortedParallelAndSink() {
+        int[][] runs = new int[5][50_000];
+        Random random = new Random(3);
+        for (int[] run : runs) {
+            for (int i = 0; i < run.length; i++) {
+                run[i] = random.nextInt(100);
+            }
+            Arrays.sort(run);
+        }
+        int[] expected = KWayMerge.merge(runs);
+        assertArrayEquals(expected, KWayMerge.mergeParallel(runs, 4));
+
+        List<KWayMerge.IntSource> sources = new ArrayList<>();
+        for (int[] run : runs) {
+            sources.add(KWayMerge.of(java.nio.IntBuffer.wrap(run)));
+        }
+        long[] checksum = new long[1];
+        long written = KWayMerge.merge(sources, (batch, length) -> {
+            for (int i = 0; i < length; i++) {
+                checksum[0] = checksum[0] * 31 + batch[i];
+            }
+        }, 1000);
+        long expectedChecksum = 0;
+        for (int x : expected) {
+            expectedChecksum = expectedChecksum * 31 + x;
+        }
+        assertEquals(expected.length, written);
+        assertEquals(expectedChecksum, checksum[0]);
+    }
+
+    @Test
+    @DisplayName("IntArray - 힙 배열에서도 기존 결과와 같음")
+    void testIntArrayHeap() {
+        int[] arr = {1, 2, 0, 3, 0, 4};
+        Array.moveElement(IntArray.wrap(arr), 0);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 0, 0}, arr);
+
+        int[] rotated = {1, 2, 3, 4, 5};
+        Array.rotateRight(IntArray.wrap(rotated), 7L);
+        assertArrayEquals(new int[]{4, 5, 1, 2, 3}, rotated);
+
+        assertEquals(6, Array.maxSubarraySum(IntArray.wrap(new int[]{-2, 1, -3, 4, -1, 2, 1, -5, 4})));
+
+        // long 인덱스를 int로 자르지 않음 (2^32 + 1이 1로 바뀌면 안 됨)
+        IntArray heap = IntArray.wrap(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.get((1L << 32) + 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> heap.set(-1, 0));
+    }
+
+    @Test
+    @DisplayName("IntArray - 메모리 매핑 파일에서 제자리 동작 (세그먼트 경계 포함)")
+    void testIntArrayMapped() throws java.io.IOException {
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("intarray", ".bin");
+        try (IntArray.Mapped mapped = new IntArray.Mapped(file, 10, false, java.nio.ByteOrder.BIG_ENDIAN, 2)) {
+            for (int i = 0; i < 10; i++) {
+                mapped.set(i, i % 3 == 0 ? -1 : i);
+            }
+            Array.moveElement(mapped, -1);
+            Array.rotateRight(mapped, 3L);
+
+            int[] expected = {-1, -1, -1, 1, 2, 4, 5, 7, 8, -1};
+            for (int i = 0; i < 10; i++) {
+                assertEquals(expected[i], mapped.get(i));
+            }
+            assertEquals(4, Array.frequencyCounts(mapped).get(-1));
+            mapped.force();
+        } finally {
+            java.nio.file.Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("IntArray - 정렬된 두 배열 합치기")
+    void testIntArrayMergeSorted() {
+        int[] out = new int[6];
+        Array.mergeSorted(IntArray.wrap(new int[]{1, 5, 9}), IntArray.wrap(new int[]{2, 3, 4}), IntArray.wrap(out));
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 9}, out);
+    }
+
+    @Test
+    @DisplayName("배열 회전 - 음수 k와 왼쪽 회전")
+    void testRotateNegativeAndLeft() {
+        int[] arr = {1, 2, 3, 4, 5};
+        Array.rotateRight(arr, -2);
+        assertArrayEquals(new int[]{3, 4, 5, 1, 2}, arr);
+
+        Array.rotateLeft(arr, 3);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, arr);
+    }
+
+    @Test
+    @DisplayName("배열 회전 - 부분 구간 회전과 병렬 회전")
+    void testRotateRangeAndParallel() {
+        int[] arr = {0, 1, 2, 3, 4, 5, 6};
+        Rotation.rotate(arr, 2, 6, 1);
+        assertArrayEquals(new int[]{0, 1, 5, 2, 3, 4, 6}, arr);
+
+        int[] big = new int[2_000_003];
+        for (int i = 0; i < big.length; i++) {
+            big[i] = i;
+        }
+        int[] expected = big.clone();
+        Rotation.rotateByReversal(expected, 777_777);
+        int[] sequential = big.clone();
+        Rotation.rotateRight(sequential, 777_777);
+        Rotation.rotateParallel(big, 777_777);
+
+        assertArrayEquals(expected, sequential);
+        assertArrayEquals(expected, big);
+    }
+
+    @Test
+    @DisplayName("상위 k개 빈발 원소 - Space-Saving")
+    void testHeavyHitters() {
+        int[] arr = new int[10_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = i % 4 == 0 ? 42 : (i % 10 == 1 ? 7 : i);
+        }
+        int[] top = Array.heavyHitters(arr, 2, 16);
+
+        assertArrayEquals(new int[]{42, 7}, top);
+    }
+
+    @Test
+    @DisplayName("스트리밍 스케치 - 과소 추정 없음과 병합")
+    void testFrequencySketchesMerge() {
+        FrequencySketch.CountMin left = new FrequencySketch.CountMin(4, 256);
+        FrequencySketch.CountMin right = new FrequencySketch.CountMin(4, 256);
+        FrequencySketch.HyperLogLog leftHll = new FrequencySketch.HyperLogLog(12);
+        FrequencySketch.HyperLogLog rightHll = new FrequencySketch.HyperLogLog(12);
+        int[] exact = new int[1000];
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            int item = random.nextInt(1000);
+            exact[item]++;
+            (i % 2 == 0 ? left : right).add(item);
+            (i % 2 == 0 ? leftHll : rightHll).add(item);
+        }
+        left.merge(right);
+        leftHll.merge(rightHll);
+
+        assertEquals(50_000, left.total());
+        for (int item = 0; item < exact.length; item++) {
+            assertTrue(left.estimate(item) >= exact[item]);
+        }
+        long distinct = leftHll.cardinality();
+        assertTrue(distinct > 950 && distinct < 1050, "cardinality " + distinct);
+    }
+
+    @Test
+    @DisplayName("Space-Saving 병합 - 나눠 받은 스트림을 합쳐도 추정 구간이 실제 빈도를 포함")
+    void testSpaceSavingMerge() {
+        FrequencySketch.SpaceSaving left = new FrequencySketch.SpaceSaving(32);
+        FrequencySketch.SpaceSaving right = new FrequencySketch.SpaceSaving(32);
+        int[] exact = new int[500];
+        Random random = new Random(5);
+        for (int i = 0; i < 40_000; i++) {
+            // 앞쪽 원소일수록 자주 나오는 치우친 분포
+            int item = (int) (exact.length * java.lang.Math.pow(random.nextDouble(), 3));
+            exact[item]++;
+            (i < 25_000 ? left : right).add(item);
+        }
+        left.merge(right);
+
+        assertEquals(40_000, left.total());
+        Set<Integer> tracked = new HashSet<>();
+        for (int item : left.topK(32)) {
+            tracked.add(item);
+            long estimate = left.estimate(item);
+            assertTrue(estimate - left.error(item) <= exact[item] && exact[item] <= estimate, "item " + item);
+        }
+        assertEquals(32, tracked.size());
+        for (int item = 0; item < exact.length; item++) {
+            if (!tracked.contains(item)) {
+                assertTrue(exact[item] <= left.error(item), "item " + item);
+            }
+        }
+        assertEquals(0, left.topK(1)[0]);
+    }
+
+    @Test
+    @DisplayName("HyperLogLog - 원소 0도 다른 값처럼 퍼져 레지스터를 최대 순위로 고정하지 않음")
+    void testHyperLogLogZeroItem() {
+        int precision = 4;
+        FrequencySketch.HyperLogLog hll = new FrequencySketch.HyperLogLog(precision);
+        hll.add(0);
+        for (int i = 0; i < 1 << precision; i++) {
+            assertTrue(hll.register(i) < 64 - precision + 1, "register " + i + " = " + hll.register(i));
+        }
+        assertEquals(1, hll.cardinality());
+    }
+
+    @Test
+    @DisplayName("특정 원소 이동 - 병렬 압축이 순차 결과와 같음")
+    void testMoveElementParallel() {
+        int[] arr = new int[200_001];
+        Random random = new Random(9);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(4);
+        }
+        int[] expected = arr.clone();
+        Array.moveElement(expected, 0);
+        Array.moveElementParallel(arr, 0);
+
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @DisplayName("병렬 누적합과 조건 기반 안정 분할")
+    void testParallelScanAndPartition() {
+        long[] values = new long[100_000];
+        Arrays.fill(values, 3);
+        ParallelScan.inclusiveScan(values);
+        assertEquals(3, values[0]);
+        assertEquals(300_000, values[values.length - 1]);
+
+        int[] src = new int[100_000];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = src.length - i;
+        }
+        int[] dst = new int[src.length];
+        int evens = ParallelScan.partition(src, dst, x -> x % 2 == 0);
+        assertEquals(50_000, evens);
+        assertEquals(100_000, dst[0]);
+        assertEquals(2, dst[evens - 1]);
+        assertEquals(99_999, dst[evens]);
+
+        int[] inPlace = src.clone();
+        ParallelScan.partitionInPlace(inPlace, x -> x % 2 == 0);
+        assertArrayEquals(dst, inPlace);
+    }
+
+    @Test
+    @DisplayName("제자리 압축/분할 - 유지 비율이 달라도 블록을 병렬로 옮긴 결과가 순차 결과와 같음")
+    void testParallelCompactKeepRatios() {
+        Random random = new Random(11);
+        for (int percent : new int[]{1, 50, 90, 99}) {
+            int[] arr = new int[2_000_000];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt(100) < percent ? i + 1 : 0;
+            }
+            int[] expected = new int[arr.length];
+            int k = 0;
+            for (int x : arr) {
+                if (x != 0) expected[k++] = x;
+            }
+            int[] dst = new int[arr.length];
+            ParallelScan.partition(arr, dst, x -> x != 0);
+            int[] inPlace = arr.clone();
+            assertEquals(k, ParallelScan.partitionInPlace(inPlace, x -> x != 0));
+            assertArrayEquals(dst, inPlace);
+
+            assertEquals(k, ParallelScan.compact(arr, 0));
+            assertArrayEquals(expected, arr);
+        }
+    }
+
+    @Test
+    @DisplayName("구간 질의 - 희소 테이블 최솟값/최댓값과 배치 질의")
+    void testSparseTable() {
+        int[] arr = {5, 2, 8, 1, 9, 3, 7};
+        RangeQuery.SparseTable min = RangeQuery.SparseTable.min(arr);
+        RangeQuery.SparseTable max = RangeQuery.SparseTable.max(arr);
+
+        assertEquals(1, min.query(0, 7));
+        assertEquals(2, min.query(0, 3));
+        assertEquals(9, max.query(2, 5));
+
+        int[] out = new int[3];
+        min.query(new int[]{0, 4, 5}, new int[]{2, 5, 7}, out);
+        assertArrayEquals(new int[]{2, 9, 3}, out);
+    }
+
+    @Test
+    @DisplayName("구간 질의 - 펜윅 트리 점 갱신과 구간 합")
+    void testFenwickTree() {
+        int[] arr = {5, 2, 8, 1, 9, 3, 7};
+        RangeQuery.FenwickTree fenwick = new RangeQuery.FenwickTree(arr);
+
+        assertEquals(35, fenwick.prefixSum(7));
+        assertEquals(11, fenwick.sum(1, 4));
+        fenwick.add(2, -8);
+        assertEquals(3, fenwick.sum(1, 4));
+    }
+
+    @Test
+    @DisplayName("구간 질의 - 세그먼트 트리 구간 더하기와 구간 합/최솟값/최댓값")
+    void testSegmentTree() {
+        int[] arr = {5, 2, 8, 1, 9, 3, 7};
+        RangeQuery.SegmentTree seg = new RangeQuery.SegmentTree(arr);
+        seg.add(1, 4, 10);
+
+        assertEquals(65, seg.sum(0, 7));
+        assertEquals(11, seg.min(1, 4));
+        assertEquals(18, seg.max(0, 4));
+        assertEquals(3, seg.min(4, 7));
+
+        long[] out = new long[2];
+        seg.sum(new int[]{0, 3}, new int[]{2, 5}, out);
+        assertEquals(17, out[0]);
+        assertEquals(20, out[1]);
+    }
+
     @Test
     @DisplayName("빈 배열 처리")
     void testEmptyArray() {
@@ -0,0 +1,192 @@
+import java.math.BigInteger;
+
+/**
+ * 소수 p에 대한 팩토리얼 / 역팩토리얼 표로 nCr, nPr, 다항계수를 O(1)에 계산
+ * - 표는 한 번만 O(maxN)으로 만듦: 역원은 maxN!의 역원 하나만 거듭제곱으로 구하고
+ *   (i-1)!^-1 = i!^-1 × i 로 거꾸로 채움
+ * - p < 2^31 이라 두 값의 곱이 long에 들어감, 값은 int[]에 저장
+ * - n이 표보다 크면 nCr은 Lucas 정리로 p진 자릿수마다 표를 씀 (자릿수가 표 안에 있을 때)
+ * - 정확한 값: 곱셈 공식을 약분하며 계산, long을 넘으면 ArithmeticException 또는 BigInteger
+ */
+public class Combinatorics {
+
+    private final int mod;
+    private final int max;       // 표에 있는 가장 큰 n (maxN과 p - 1 중 작은 값)
+    private final int[] fact;
+    private final int[] invFact;
+
+    private Combinatorics(int maxN, int mod) {
+        this.mod = mod;
+        this.max = java.lang.Math.min(maxN, mod - 1);
+        this.fact = new int[max + 1];
+        this.invFact = new int[max + 1];
+        fact[0] = 1;
+        for (int i = 1; i <= max; i++) fact[i] = (int) ((long) fact[i - 1] * i % mod);
+        invFact[max] = (int) Math.modularPower(fact[max], mod - 2, mod);
+        for (int i = max; i > 0; i--) invFact[i - 1] = (int) ((long) invFact[i] * i % mod);
+    }
+
+    // 1. [0, maxN] 표 생성 (mod는 소수, 예: 1_000_000_007)
+    public static Combinatorics mod(int maxN, int prime) {
+        if (maxN < 0) {
+            throw new IllegalArgumentException("maxN < 0: " + maxN);
+        }
+        if (!Primality.isPrime(prime)) {
+            throw new IllegalArgumentException("소수가 아님: " + prime);
+        }
+        return new Combinatorics(maxN, prime);
+    }
+
+    public int modulus() {
+        return mod;
+    }
+
+    // 표에 있는 가장 큰 n (이보다 크면 factorial은 쓸 수 없음, nCr은 Lucas, nPr은 n mod p로)
+    public int tableLimit() {
+        return max;
+    }
+
+    private void check(long n) {
+        if (n > max) {
+            throw new IllegalArgumentException("표 범위 밖: " + n + " > " + max);
+        }
+    }
+
+    public long factorial(int n) {
+        if (n < 0) throw new IllegalArgumentException("n < 0: " + n);
+        if (n >= mod) return 0;
+        check(n);
+        return fact[n];
+    }
+
+    public long inverseFactorial(int n) {
+        if (n < 0) throw new IllegalArgumentException("n < 0: " + n);
+        check(n);
+        return invFact[n];
+    }
+
+    // 2. nCr mod p (r < 0 또는 r > n이면 0)
+    public long nCr(long n, long r) {
+        if (r < 0 || r > n) return 0;
+        if (n <= max) return small((int) n, (int) r);
+        // Lucas: C(n, r) ≡ Π C(n_i, r_i) (n_i, r_i는 p진 자릿수)
+        long result = 1;
+        while (n > 0 && result != 0) {
+            int ni = (int) (n % mod), ri = (int) (r % mod);
+            if (ri > ni) return 0;
+            check(ni);
+            result = result * small(ni, ri) % mod;
+            n /= mod;
+            r /= mod;
+        }
+        return result;
+    }
+
+    private long small(int n, int r) {
+        return (long) fact[n] * invFact[r] % mod * invFact[n - r] % mod;
+    }
+
+    // 3. nPr mod p = n × (n - 1) × ... × (n - r + 1)
+    // n이 표보다 크면 연속한 r개를 mod p로 보면 m = n mod p부터 내려가는 곱과 같음
+    // (m < r이면 중간에 p의 배수가 있어 0, 아니면 m! / (m - r)!)
+    public long nPr(long n, long r) {
+        if (r < 0 || r > n) return 0;
+        int m = n <= max ? (int) n : (int) (n % mod);
+        if (m < r) return 0;
+        check(m);
+        return (long) fact[m] * invFact[(int) (m - r)] % mod;
+    }
+
+    // 4. 다항계수 (k1 + k2 + ...)! / (k1! k2! ...) mod p
+    // 합이 표 밖이면 C(k1, k1) × C(k1 + k2, k2) × ... 로 나눠 Lucas 사용
+    public long multinomial(int... counts) {
+        long total = 0;
+        for (int k : counts) {
+            if (k < 0) throw new IllegalArgumentException("음수 개수: " + k);
+            total += k;
+        }
+        if (total <= max) {
+            long result = fact[(int) total];
+            for (int k : counts) result = result * invFact[k] % mod;
+            return result;
+        }
+        long result = 1, prefix = 0;
+        for (int k : counts) {
+            prefix += k;
+            result = result * nCr(prefix, k) % mod;
+        }
+        return result;
+    }
+
+    // 5. 정확한 nCr: C(n, i) = C(n, i - 1) × (n - r' + i) / i 를 약분하며 계산 (long을 넘으면 ArithmeticException)
+    public static long binomialExact(int n, int r) {
+        if (r < 0 || r > n) return 0;
+        r = java.lang.Math.min(r, n - r);
+        long result = 1;
+        for (int i = 1; i <= r; i++) {
+            // result × (n - r + i)는 i로 나누어떨어지므로 먼저 공약수를 빼서 중간값이 커지지 않게 함
+            long g = gcd(result, i);
+            long factor = (n - r + i) / (i / g);
+            result = java.lang.Math.multiplyExact(result / g, factor);
+        }
+        return result;
+    }
+
+    // long을 넘으면 BigInteger로 다시 계산
+    public static BigInteger binomial(int n, int r) {
+        try {
+            return BigInteger.valueOf(binomialExact(n, r));
+        } catch (ArithmeticException e) {
+            r = java.lang.Math.min(r, n - r);
+            BigInteger result = BigInteger.ONE;
+            for (int i = 1; i <= r; i++) {
+                result = result.multiply(BigInteger.valueOf(n - r + i)).divide(BigInteger.valueOf(i));
+            }
+            return result;
+        }
+    }
+
+    // 정확한 nPr = n × (n - 1) × ... × (n - r + 1) (long을 넘으면 ArithmeticException)
+    public static long permutationExact(int n, int r) {
+        if (r < 0 || r > n) return 0;
+        long result = 1;
+        // n부터 r번 내려가며 곱함 (n = Integer.MAX_VALUE일 때 i <= n 조건으로 올라가면 int가 넘침)
+        for (long i = n; i > n - r; i--) result = java.lang.Math.multiplyExact(result, i);
+        return result;
+    }
+
+    public static BigInteger permutation(int n, int r) {
+        try {
+            return BigInteger.valueOf(permutationExact(n, r));
+        } catch (ArithmeticException e) {
+            BigInteger result = BigInteger.ONE;
+            for (long i = n; i > n - r; i--) result = result.multiply(BigInteger.valueOf(i));
+            return result;
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 조합 표 테스트 =====\n");
+
+        long begin = System.nanoTime();
+        Combinatorics table = mod(10_000_000, 1_000_000_007);
+        System.out.printf("1. 10^7까지 팩토리얼 / 역팩토리얼 표: %d ms%n", (System.nanoTime() - begin) / 1_000_000);
+        System.out.println("2. C(10^7, 5 × 10^6) mod 1e9+7 = " + table.nCr(10_000_000, 5_000_000));
+        System.out.println("3. 다항계수 (3, 2, 1) = " + table.multinomial(3, 2, 1));
+
+        Combinatorics lucas = mod(12, 13);
+        System.out.println("4. Lucas C(10^18, 10^9) mod 13 = " + lucas.nCr(1_000_000_000_000_000_000L, 1_000_000_000L));
+
+        System.out.println("5. 정확한 C(66, 33) = " + binomialExact(66, 33) + ", C(100, 50) = " + binomial(100, 50));
+    }
+}
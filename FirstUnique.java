@@ -0,0 +1,157 @@
+import java.util.*;
+
+/**
+ * 스트림에 토큰을 하나씩 추가하면서 "지금까지 한 번만 나온 토큰 중 가장 먼저 나온 것"을 O(1)로 유지
+ * - 상태 배열: 토큰마다 0 = 처음, 1 = 한 번, 2 = 두 번 이상
+ * - 한 번만 나온 토큰들은 등장 순서대로 배열 기반 이중 연결 리스트(prev / next)에 연결
+ *   두 번째로 나오면 리스트에서 빼고, 머리가 곧 답
+ * - dense: 토큰이 0 ~ alphabet-1 (문자 등), 칸 번호 = 토큰
+ * - sparse: 임의의 int 토큰, IntIntHashMap으로 처음 나올 때 칸을 배정 (메모리 O(서로 다른 토큰 수))
+ * 시간 복잡도: add / first 모두 O(1) (sparse는 평균 O(1))
+ */
+public class FirstUnique {
+
+    private static final byte UNSEEN = 0, ONCE = 1, REPEATED = 2;
+    private static final int NONE = -1;
+
+    private final IntIntHashMap slotOf;  // sparse일 때만 사용
+    private final int alphabet;
+    private byte[] state;
+    private int[] prev;
+    private int[] next;
+    private int[] tokens;                // 칸 -> 토큰 (sparse일 때만 사용)
+    private int slots;
+    private int head = NONE, tail = NONE;
+    private long added;
+
+    private FirstUnique(int alphabet, boolean sparse) {
+        this.alphabet = alphabet;
+        this.slotOf = sparse ? new IntIntHashMap() : null;
+        int capacity = sparse ? 16 : alphabet;
+        this.state = new byte[capacity];
+        this.prev = new int[capacity];
+        this.next = new int[capacity];
+        this.tokens = sparse ? new int[capacity] : null;
+    }
+
+    // 1. 토큰 범위가 정해진 경우 (예: char는 65536, ASCII는 128)
+    public static FirstUnique dense(int alphabet) {
+        if (alphabet <= 0) {
+            throw new IllegalArgumentException("alphabet <= 0: " + alphabet);
+        }
+        return new FirstUnique(alphabet, false);
+    }
+
+    // 2. 토큰 범위가 크거나 알 수 없는 경우
+    public static FirstUnique sparse() {
+        return new FirstUnique(0, true);
+    }
+
+    private int slot(int token) {
+        if (slotOf == null) {
+            if (token < 0 || token >= alphabet) {
+                throw new IllegalArgumentException("토큰 범위 밖: " + token + " (0 ~ " + (alphabet - 1) + ")");
+            }
+            return token;
+        }
+        int slot = slotOf.getOrDefault(token, NONE);
+        if (slot == NONE) {
+            slot = slots++;
+            if (slot == state.length) {
+                int capacity = slot * 2;
+                state = Arrays.copyOf(state, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+                next = Arrays.copyOf(next, capacity);
+                tokens = Arrays.copyOf(tokens, capacity);
+            }
+            slotOf.put(token, slot);
+            tokens[slot] = token;
+        }
+        return slot;
+    }
+
+    // 3. 토큰 추가
+    public void add(int token) {
+        int s = slot(token);
+        added++;
+        switch (state[s]) {
+            case UNSEEN:
+                state[s] = ONCE;
+                prev[s] = tail;
+                next[s] = NONE;
+                if (tail == NONE) head = s;
+                else next[tail] = s;
+                tail = s;
+                break;
+            case ONCE:
+                state[s] = REPEATED;
+                if (prev[s] == NONE) head = next[s];
+                else next[prev[s]] = next[s];
+                if (next[s] == NONE) tail = prev[s];
+                else prev[next[s]] = prev[s];
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void addAll(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) add(text.charAt(i));
+    }
+
+    public boolean hasUnique() {
+        return head != NONE;
+    }
+
+    // 4. 한 번만 나온 토큰 중 가장 먼저 나온 것 (없으면 NoSuchElementException)
+    public int first() {
+        if (head == NONE) throw new NoSuchElementException("한 번만 나온 토큰 없음");
+        return tokens == null ? head : tokens[head];
+    }
+
+    public int firstOrDefault(int defaultValue) {
+        return head == NONE ? defaultValue : first();
+    }
+
+    // 지금까지 추가한 토큰 수
+    public long added() {
+        return added;
+    }
+
+    public void clear() {
+        Arrays.fill(state, 0, slotOf == null ? alphabet : slots, UNSEEN);
+        if (slotOf != null) {
+            slotOf.clear();
+            slots = 0;
+        }
+        head = tail = NONE;
+        added = 0;
+    }
+
+    // 5. 문자열 한 번 훑기로 첫 번째 반복되지 않은 문자 (없으면 -1)
+    public static int firstUniqueChar(CharSequence text) {
+        // 짧은 문자열에 65536칸 배열을 잡지 않도록 sparse 사용
+        FirstUnique tracker = text.length() < 4096 ? sparse() : dense(Character.MAX_VALUE + 1);
+        tracker.addAll(text);
+        return tracker.firstOrDefault(-1);
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 온라인 첫 유일 토큰 테스트 =====\n");
+
+        FirstUnique chat = dense(128);
+        StringBuilder shown = new StringBuilder();
+        for (char c : "aabcbd".toCharArray()) {
+            chat.add(c);
+            shown.append(c).append(" -> ").append(chat.hasUnique() ? java.lang.String.valueOf((char) chat.first()) : "없음").append(", ");
+        }
+        System.out.println("1. 문자마다 현재 첫 유일 문자: " + shown);
+
+        FirstUnique ids = sparse();
+        for (int id : new int[]{1_000_000, 42, 1_000_000, -7}) ids.add(id);
+        System.out.println("2. 토큰 id 스트림의 첫 유일 토큰: " + ids.first());
+
+        System.out.println("3. 'leetcode'의 첫 유일 문자: " + (char) firstUniqueChar("leetcode"));
+    }
+}
@@ -0,0 +1,343 @@
+import java.util.*;
+
+/**
+ * 고정 메모리로 무한 스트림의 빈도를 추정하는 스케치 모음
+ * - CountMin: 원소별 빈도 추정 (conservative update), 과대 추정만 함
+ * - SpaceSaving: 상위 k개 빈발 원소 (heavy hitters)
+ * - HyperLogLog: 서로 다른 원소 수 추정
+ * 모두 add(int) / addAll(int[])로 받고, 같은 설정의 인스턴스끼리 merge 가능
+ * (스레드마다 인스턴스를 하나씩 두고 나중에 합치는 방식으로 병렬 수집)
+ */
+public class FrequencySketch {
+
+    // 64비트 혼합 함수 (SplitMix64 finalizer)
+    static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    // 1. Count-Min Sketch (depth x width 카운터, 메모리 = depth * width * 8바이트)
+    // 추정값 - 실제값 <= (e / width) * N 이 확률 1 - e^-depth 이상으로 성립
+    public static class CountMin {
+        private final int depth;
+        private final int width;
+        private final long[] counts;
+        private final long[] seeds;
+        private long total;
+
+        public CountMin(int depth, int width) {
+            if (depth <= 0 || width <= 0) {
+                throw new IllegalArgumentException("depth, width > 0 이어야 함: " + depth + ", " + width);
+            }
+            this.depth = depth;
+            this.width = width;
+            this.counts = new long[depth * width];
+            this.seeds = new long[depth];
+            for (int d = 0; d < depth; d++) {
+                seeds[d] = mix64(0x9E3779B97F4A7C15L * (d + 1));
+            }
+        }
+
+        private int index(int row, int item) {
+            long h = mix64(item ^ seeds[row]);
+            return row * width + (int) ((h >>> 1) % width);
+        }
+
+        public void add(int item) {
+            add(item, 1);
+        }
+
+        // conservative update: 현재 최솟값 + count 보다 작은 카운터만 올림
+        public void add(int item, long count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count < 0: " + count);
+            }
+            long target = estimate(item) + count;
+            for (int d = 0; d < depth; d++) {
+                int i = index(d, item);
+                if (counts[i] < target) counts[i] = target;
+            }
+            total += count;
+        }
+
+        public void addAll(int[] items) {
+            for (int item : items) add(item, 1);
+        }
+
+        public long estimate(int item) {
+            long min = Long.MAX_VALUE;
+            for (int d = 0; d < depth; d++) {
+                min = java.lang.Math.min(min, counts[index(d, item)]);
+            }
+            return min;
+        }
+
+        public long total() {
+            return total;
+        }
+
+        // 같은 depth/width끼리 카운터를 더함 (합친 뒤에도 과대 추정 성질은 유지)
+        public CountMin merge(CountMin other) {
+            if (other.depth != depth || other.width != width) {
+                throw new IllegalArgumentException("크기가 다른 스케치는 합칠 수 없음");
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            total += other.total;
+            return this;
+        }
+    }
+
+    // 2. Space-Saving (카운터 capacity개, 메모리 O(capacity))
+    // 빈도 > N / capacity 인 원소는 반드시 남아 있고, 추정 오차는 error(item) 이하
+    public static class SpaceSaving {
+        private final int capacity;
+        private final IntIntHashMap slotOf;  // 원소 -> 힙 위치
+        private final int[] items;
+        private final long[] counts;
+        private final long[] errors;
+        private int size;
+        private long total;
+
+        public SpaceSaving(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity <= 0: " + capacity);
+            }
+            this.capacity = capacity;
+            this.slotOf = new IntIntHashMap(capacity);
+            this.items = new int[capacity];
+            this.counts = new long[capacity];
+            this.errors = new long[capacity];
+        }
+
+        public void add(int item) {
+            add(item, 1);
+        }
+
+        public void add(int item, long count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count < 0: " + count);
+            }
+            total += count;
+            int slot = slotOf.getOrDefault(item, -1);
+            if (slot >= 0) {
+                counts[slot] += count;
+                siftDown(slot);
+            } else if (size < capacity) {
+                slot = size++;
+                items[slot] = item;
+                counts[slot] = count;
+                errors[slot] = 0;
+                slotOf.put(item, slot);
+                siftUp(slot);
+            } else {
+                // 가장 작은 카운터(힙 루트)를 빼앗고, 기존 값은 오차로 기록
+                slotOf.remove(items[0]);
+                errors[0] = counts[0];
+                counts[0] += count;
+                items[0] = item;
+                slotOf.put(item, 0);
+                siftDown(0);
+            }
+        }
+
+        public void addAll(int[] arr) {
+            for (int item : arr) add(item, 1);
+        }
+
+        // 추적 중이 아니면 0 (실제 빈도는 최소 카운터 이하)
+        public long estimate(int item) {
+            int slot = slotOf.getOrDefault(item, -1);
+            return slot >= 0 ? counts[slot] : 0;
+        }
+
+        public long error(int item) {
+            int slot = slotOf.getOrDefault(item, -1);
+            return slot >= 0 ? errors[slot] : minCount();
+        }
+
+        private long minCount() {
+            return size < capacity ? 0 : counts[0];
+        }
+
+        public long total() {
+            return total;
+        }
+
+        // 추정 빈도 내림차순 상위 k개 원소
+        public int[] topK(int k) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+            int n = java.lang.Math.min(k, size);
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) result[i] = items[order[i]];
+            return result;
+        }
+
+        // 두 요약을 합침: 한쪽에 없는 원소는 그쪽 최소 카운터만큼 더해 과소 추정을 막음
+        public SpaceSaving merge(SpaceSaving other) {
+            long myMin = minCount(), otherMin = other.minCount();
+            IntIntHashMap merged = new IntIntHashMap(size + other.size);
+            int n = 0;
+            int[] mItems = new int[size + other.size];
+            long[] mCounts = new long[mItems.length];
+            long[] mErrors = new long[mItems.length];
+            for (int i = 0; i < size; i++) {
+                int os = other.slotOf.getOrDefault(items[i], -1);
+                mItems[n] = items[i];
+                mCounts[n] = counts[i] + (os >= 0 ? other.counts[os] : otherMin);
+                mErrors[n] = errors[i] + (os >= 0 ? other.errors[os] : otherMin);
+                merged.put(items[i], n++);
+            }
+            for (int i = 0; i < other.size; i++) {
+                if (merged.containsKey(other.items[i])) continue;
+                mItems[n] = other.items[i];
+                mCounts[n] = other.counts[i] + myMin;
+                mErrors[n] = other.errors[i] + myMin;
+                n++;
+            }
+
+            // 큰 카운터 capacity개만 남김
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(mCounts[b], mCounts[a]));
+            slotOf.clear();
+            size = java.lang.Math.min(n, capacity);
+            for (int i = 0; i < size; i++) {
+                items[i] = mItems[order[i]];
+                counts[i] = mCounts[order[i]];
+                errors[i] = mErrors[order[i]];
+            }
+            // 내림차순 배열을 뒤집으면 최소 힙 조건을 만족
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                swap(i, j);
+            }
+            for (int i = 0; i < size; i++) slotOf.put(items[i], i);
+            total += other.total;
+            return this;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (counts[parent] <= counts[i]) break;
+                swapAndTrack(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int l = 2 * i + 1, r = l + 1, smallest = i;
+                if (l < size && counts[l] < counts[smallest]) smallest = l;
+                if (r < size && counts[r] < counts[smallest]) smallest = r;
+                if (smallest == i) return;
+                swapAndTrack(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swapAndTrack(int a, int b) {
+            swap(a, b);
+            slotOf.put(items[a], a);
+            slotOf.put(items[b], b);
+        }
+
+        private void swap(int a, int b) {
+            int ti = items[a];
+            items[a] = items[b];
+            items[b] = ti;
+            long tc = counts[a];
+            counts[a] = counts[b];
+            counts[b] = tc;
+            long te = errors[a];
+            errors[a] = errors[b];
+            errors[b] = te;
+        }
+    }
+
+    // 3. HyperLogLog (레지스터 2^precision개, 1바이트씩)
+    // 표준 오차 약 1.04 / sqrt(2^precision), precision 14 -> 16KB, 약 0.8%
+    public static class HyperLogLog {
+        private final int precision;
+        private final byte[] registers;
+
+        public HyperLogLog(int precision) {
+            if (precision < 4 || precision > 18) {
+                throw new IllegalArgumentException("precision은 4 ~ 18: " + precision);
+            }
+            this.precision = precision;
+            this.registers = new byte[1 << precision];
+        }
+
+        public void add(int item) {
+            // 곱하면 0이 0으로 남고 mix64(0) = 0이라 0이 레지스터 0을 최대 순위로 고정함 -> SplitMix64처럼 상수를 더함
+            long h = mix64(item + 0x9E3779B97F4A7C15L);
+            int index = (int) (h >>> (64 - precision));
+            // 남은 비트에서 앞쪽 0의 개수 + 1 (끝에 1을 심어 최대값을 제한)
+            long rest = (h << precision) | (1L << (precision - 1));
+            int rank = Long.numberOfLeadingZeros(rest) + 1;
+            if (rank > registers[index]) registers[index] = (byte) rank;
+        }
+
+        public void addAll(int[] items) {
+            for (int item : items) add(item);
+        }
+
+        // 레지스터 값 (최대 64 - precision + 1)
+        int register(int index) {
+            return registers[index];
+        }
+
+        public long cardinality() {
+            int m = registers.length;
+            double sum = 0;
+            int zeros = 0;
+            for (byte r : registers) {
+                sum += 1.0 / (1L << r);
+                if (r == 0) zeros++;
+            }
+            double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+            double estimate = alpha * m * m / sum;
+            // 작은 범위 보정 (linear counting)
+            if (estimate <= 2.5 * m && zeros > 0) {
+                estimate = m * java.lang.Math.log((double) m / zeros);
+            }
+            return java.lang.Math.round(estimate);
+        }
+
+        // 레지스터별 최댓값
+        public HyperLogLog merge(HyperLogLog other) {
+            if (other.precision != precision) {
+                throw new IllegalArgumentException("precision이 다른 스케치는 합칠 수 없음");
+            }
+            for (int i = 0; i < registers.length; i++) {
+                if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+            }
+            return this;
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 스트리밍 빈도 스케치 테스트 =====\n");
+
+        Random random = new Random(1);
+        CountMin cms = new CountMin(4, 1 << 12);
+        SpaceSaving top = new SpaceSaving(64);
+        HyperLogLog hll = new HyperLogLog(14);
+        for (int i = 0; i < 1_000_000; i++) {
+            // 0 ~ 9는 자주, 나머지는 고르게 등장
+            int item = random.nextInt(4) == 0 ? random.nextInt(10) : random.nextInt(100_000);
+            cms.add(item);
+            top.add(item);
+            hll.add(item);
+        }
+        System.out.println("1. CountMin 0의 빈도 추정: " + cms.estimate(0));
+        System.out.println("2. SpaceSaving 상위 5개: " + Arrays.toString(top.topK(5)));
+        System.out.println("3. HyperLogLog 서로 다른 원소 수 (약 100000): " + hll.cardinality());
+    }
+}
@@ -0,0 +1,153 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+/**
+ * long 인덱스를 쓰는 int 배열 추상화
+ * - Heap: 기존 int[]를 그대로 감쌈
+ * - Mapped: 파일을 MappedByteBuffer 세그먼트로 나눠 매핑 (힙보다 큰 파일, 2^31개 넘는 원소 가능)
+ * 매핑된 배열은 복사 없이 파일을 바로 읽고, set은 파일에 제자리로 씀
+ */
+public interface IntArray {
+
+    long length();
+
+    int get(long index);
+
+    void set(long index, int value);
+
+    default void swap(long i, long j) {
+        int temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+
+    // 1. 힙 배열 감싸기
+    static IntArray wrap(int[] arr) {
+        return new Heap(arr);
+    }
+
+    // 2. 기존 파일을 읽기/쓰기로 매핑 (원소 수 = 파일 크기 / 4)
+    static Mapped map(Path path) throws IOException {
+        return new Mapped(path, -1, false, ByteOrder.BIG_ENDIAN, Mapped.SEGMENT_SHIFT);
+    }
+
+    // 3. 기존 파일을 읽기 전용으로 매핑
+    static Mapped mapReadOnly(Path path) throws IOException {
+        return new Mapped(path, -1, true, ByteOrder.BIG_ENDIAN, Mapped.SEGMENT_SHIFT);
+    }
+
+    // 4. length개 원소 크기의 파일을 만들고(또는 늘리고) 매핑
+    static Mapped create(Path path, long length) throws IOException {
+        if (length < 0) {
+            throw new IllegalArgumentException("length < 0: " + length);
+        }
+        return new Mapped(path, length, false, ByteOrder.BIG_ENDIAN, Mapped.SEGMENT_SHIFT);
+    }
+
+    class Heap implements IntArray {
+        private final int[] arr;
+
+        Heap(int[] arr) {
+            this.arr = arr;
+        }
+
+        @Override
+        public long length() {
+            return arr.length;
+        }
+
+        @Override
+        public int get(long index) {
+            return arr[checkIndex(index)];
+        }
+
+        @Override
+        public void set(long index, int value) {
+            arr[checkIndex(index)] = value;
+        }
+
+        // (int)로 자르면 2^32 + i 같은 인덱스가 i로 바뀌므로 먼저 범위를 확인 (Mapped와 같은 예외)
+        private int checkIndex(long index) {
+            if (index < 0 || index >= arr.length) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + arr.length);
+            }
+            return (int) index;
+        }
+
+        public int[] array() {
+            return arr;
+        }
+    }
+
+    // 세그먼트 하나는 2^SEGMENT_SHIFT개 원소 (기본 2^28개 = 1GB)
+    class Mapped implements IntArray, Closeable {
+        static final int SEGMENT_SHIFT = 28;
+
+        private final FileChannel channel;
+        private final MappedByteBuffer[] segments;
+        private final long length;
+        private final int shift;
+        private final long mask;
+
+        Mapped(Path path, long length, boolean readOnly, ByteOrder order, int shift) throws IOException {
+            this.channel = readOnly
+                ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+            this.length = length >= 0 ? length : channel.size() / Integer.BYTES;
+            this.shift = shift;
+            this.mask = (1L << shift) - 1;
+
+            FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+            int count = (int) ((this.length + mask) >>> shift);
+            this.segments = new MappedByteBuffer[count];
+            try {
+                for (int s = 0; s < count; s++) {
+                    long first = (long) s << shift;
+                    long elements = java.lang.Math.min(1L << shift, this.length - first);
+                    segments[s] = channel.map(mode, first * Integer.BYTES, elements * Integer.BYTES);
+                    segments[s].order(order);
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public int get(long index) {
+            checkIndex(index);
+            return segments[(int) (index >>> shift)].getInt((int) (index & mask) << 2);
+        }
+
+        @Override
+        public void set(long index, int value) {
+            checkIndex(index);
+            segments[(int) (index >>> shift)].putInt((int) (index & mask) << 2, value);
+        }
+
+        private void checkIndex(long index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            }
+        }
+
+        // 변경 내용을 디스크에 반영
+        public void force() {
+            for (MappedByteBuffer segment : segments) {
+                if (!segment.isReadOnly()) segment.force();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+import java.util.*;
+
+/**
+ * int -> int 전용 해시맵 (오픈 어드레싱, 선형 탐사)
+ * - Integer 박싱 없이 키/값을 int[] 두 개에 그대로 저장
+ * - 용량은 항상 2의 거듭제곱, 적재율 0.5 초과 시 2배로 확장
+ * - 삭제는 backward-shift 방식이라 묘비(tombstone)가 남지 않음
+ * 시간 복잡도: get/put/addTo 평균 O(1)
+ */
+public class IntIntHashMap {
+
+    // 키 0은 빈 칸 표시로 쓰므로 별도 필드에 보관
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    // 키/값 쌍을 박싱 없이 순회하기 위한 콜백
+    @FunctionalInterface
+    public interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+
+    public IntIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    // expectedSize 개를 넣어도 확장이 일어나지 않도록 용량을 잡음
+    public IntIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize < 0: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) expectedSize * 2;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed) {
+            if (capacity >= (1 << 30)) {
+                throw new IllegalStateException("용량 초과: " + expectedSize);
+            }
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity >>> 1;
+    }
+
+    // 연속된 키가 같은 구간에 몰리지 않도록 섞어줌 (Fibonacci hashing)
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int slotOf(int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -(slot + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == EMPTY) return hasZeroKey;
+        return slotOf(key) >= 0;
+    }
+
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY) return hasZeroKey ? zeroValue : defaultValue;
+        int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    // 이전 값을 반환 (없었으면 0)
+    public int put(int key, int value) {
+        if (key == EMPTY) {
+            int prev = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return prev;
+        }
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            int prev = values[slot];
+            values[slot] = value;
+            return prev;
+        }
+        insertAt(-slot - 1, key, value);
+        return 0;
+    }
+
+    // 키가 없으면 delta로 새로 넣고, 있으면 delta만큼 더한 값을 반환
+    public int addTo(int key, int delta) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insertAt(-slot - 1, key, delta);
+        return delta;
+    }
+
+    private void insertAt(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size - (hasZeroKey ? 1 : 0) > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity <= 0) {
+            throw new IllegalStateException("용량 초과: " + size);
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // 삭제된 값을 반환 (없었으면 0)
+    public int remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) return 0;
+            int prev = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return prev;
+        }
+        int slot = slotOf(key);
+        if (slot < 0) return 0;
+        int prev = values[slot];
+        shiftConflictingKeys(slot);
+        size--;
+        return prev;
+    }
+
+    // 빈 칸 뒤에 있는 키들을 원래 자리 쪽으로 당겨 탐사 체인이 끊기지 않게 함
+    private void shiftConflictingKeys(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            int key = keys[slot];
+            if (key == EMPTY) break;
+            int ideal = mix(key) & mask;
+            // ideal 이 (gap, slot] 구간 밖에 있으면 gap 으로 옮길 수 있음
+            if (((slot - ideal) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) action.accept(EMPTY, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int[] keysToArray() {
+        int[] result = new int[size];
+        int k = 0;
+        if (hasZeroKey) result[k++] = EMPTY;
+        for (int key : keys) {
+            if (key != EMPTY) result[k++] = key;
+        }
+        return result;
+    }
+
+    // 기존 API와의 호환을 위한 박싱 변환 (핫패스에서는 사용하지 말 것)
+    public Map<Integer, Integer> toMap() {
+        Map<Integer, Integer> result = new HashMap<>(size * 2);
+        forEach(result::put);
+        return result;
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== IntIntHashMap 테스트 =====\n");
+
+        IntIntHashMap map = new IntIntHashMap();
+        int[] data = {5, 0, 5, -3, 7, 5, 0};
+        for (int x : data) {
+            map.addTo(x, 1);
+        }
+        System.out.println("빈도수: " + map.toMap());
+        System.out.println("5의 빈도: " + map.get(5));
+
+        map.remove(5);
+        System.out.println("5 삭제 후 크기: " + map.size());
+    }
+}
@@ -0,0 +1,155 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * int 배열/스트림 통계 (개수, 최솟값, 최댓값, 합, 평균, 분산)
+ * - 한 번의 순회로 모든 값을 계산 (합은 long이라 int 오버플로우 없음)
+ * - 분산은 Welford 방식으로 누적하고, 두 부분 결과는 Chan 공식으로 합침
+ * - accept/combine 으로 스트리밍 데이터에서도 재순회 없이 갱신 가능
+ * 시간 복잡도: O(n), 병렬 모드는 O(n / P + log n)
+ */
+public class IntStats {
+
+    // 이 크기 이하의 구간은 병렬로 나누지 않고 바로 계산
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private long count;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private long sum;
+    private double mean;
+    private double m2;  // 평균과의 편차 제곱합
+
+    // 1. 값 하나 추가
+    public void accept(int value) {
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        sum += value;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    // 2. 다른 부분 결과를 합침 (other는 변경하지 않음)
+    public IntStats combine(IntStats other) {
+        if (other.count == 0) return this;
+        if (count == 0) {
+            count = other.count;
+            min = other.min;
+            max = other.max;
+            sum = other.sum;
+            mean = other.mean;
+            m2 = other.m2;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        if (other.min < min) min = other.min;
+        if (other.max > max) max = other.max;
+        sum += other.sum;
+        return this;
+    }
+
+    // 3. 배열 전체 통계 (순차)
+    public static IntStats of(int[] arr) {
+        return of(arr, 0, arr.length);
+    }
+
+    // [from, to) 구간 통계
+    public static IntStats of(int[] arr, int from, int to) {
+        IntStats stats = new IntStats();
+        for (int i = from; i < to; i++) {
+            stats.accept(arr[i]);
+        }
+        return stats;
+    }
+
+    // 4. 배열 전체 통계 (fork-join 병렬, 구간별 부분 결과를 combine)
+    public static IntStats ofParallel(int[] arr) {
+        if (arr.length <= PARALLEL_THRESHOLD) return of(arr);
+        return ForkJoinPool.commonPool().invoke(new StatsTask(arr, 0, arr.length));
+    }
+
+    private static class StatsTask extends RecursiveTask<IntStats> {
+        private static final long serialVersionUID = 1L;
+        private final int[] arr;
+        private final int from, to;
+
+        StatsTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IntStats compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return of(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            StatsTask left = new StatsTask(arr, from, mid);
+            left.fork();
+            IntStats right = new StatsTask(arr, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // 비어 있으면 Integer.MAX_VALUE
+    public int getMin() {
+        return min;
+    }
+
+    // 비어 있으면 Integer.MIN_VALUE
+    public int getMax() {
+        return max;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    // 비어 있으면 0.0
+    public double getMean() {
+        return mean;
+    }
+
+    // 모분산 (n으로 나눔), 비어 있으면 0.0
+    public double getVariance() {
+        return count == 0 ? 0.0 : m2 / count;
+    }
+
+    // 표본분산 (n - 1로 나눔), 값이 2개 미만이면 0.0
+    public double getSampleVariance() {
+        return count < 2 ? 0.0 : m2 / (count - 1);
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== IntStats 테스트 =====\n");
+
+        int[] arr = {3, 1, 4, 1, 5, 9, 2, 6};
+        IntStats stats = of(arr);
+        System.out.println("Min: " + stats.getMin() + ", Max: " + stats.getMax()
+            + ", Sum: " + stats.getSum() + ", Avg: " + stats.getMean() + ", Var: " + stats.getVariance());
+
+        // 스트리밍: 값이 들어올 때마다 갱신
+        IntStats streaming = new IntStats();
+        for (int x : arr) {
+            streaming.accept(x);
+        }
+        System.out.println("스트리밍 평균: " + streaming.getMean());
+
+        // 병렬: 큰 배열
+        int[] big = new int[1_000_000];
+        Arrays.fill(big, Integer.MAX_VALUE);
+        System.out.println("병렬 합 (오버플로우 없음): " + ofParallel(big).getSum());
+    }
+}
@@ -0,0 +1,253 @@
+import java.util.*;
+
+/**
+ * int[] 교집합 엔진
+ * 정렬 여부는 호출자가 진입점으로 알려줌 (큰 배열을 매번 훑어 확인하면 갤로핑의 이득이 사라짐):
+ * - intersectSorted: 길이 차이 큼 -> 갤로핑(지수 탐색) O(m log(n/m)), 비슷함 -> 선형 병합 O(n + m)
+ * - intersect (순서 모름): 작은 배열의 값 범위가 좁으면 비트셋 O(n + m + range/64),
+ *                         아니면 박싱 없는 해시셋 O(n + m)
+ * 결과는 중복 없는 값들이며, 정렬 입력이면 오름차순, 아니면 큰 배열에서 처음 나온 순서
+ */
+public class Intersection {
+
+    enum Strategy { GALLOP, MERGE, BITSET, HASH }
+
+    // 길이 비가 이 값 이상이면 병합 대신 갤로핑
+    static final int GALLOP_RATIO = 32;
+    // 작은 배열의 값 범위가 (길이 * 이 값) 이하이면 비트셋
+    static final int BITSET_DENSITY = 64;
+
+    // 1. 두 배열의 교집합
+    public static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[java.lang.Math.min(a.length, b.length)];
+        int n = intersect(a, b, out);
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    // 2. 호출자가 준 버퍼에 결과를 쓰고 개수를 반환 (버퍼 길이 >= min(a.length, b.length))
+    public static int intersect(int[] a, int[] b, int[] out) {
+        return intersect(a, b, out, false);
+    }
+
+    // 3. 둘 다 오름차순 정렬돼 있다고 호출자가 보장하는 경우 (확인하지 않음, 정렬이 아니면 결과가 틀림)
+    public static int[] intersectSorted(int[] a, int[] b) {
+        int[] out = new int[java.lang.Math.min(a.length, b.length)];
+        int n = intersectSorted(a, b, out);
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    public static int intersectSorted(int[] a, int[] b, int[] out) {
+        return intersect(a, b, out, true);
+    }
+
+    private static int intersect(int[] a, int[] b, int[] out, boolean sorted) {
+        int[] small = a.length <= b.length ? a : b;
+        int[] large = small == a ? b : a;
+        if (out.length < small.length) {
+            throw new IllegalArgumentException("출력 버퍼가 작음: " + out.length + " < " + small.length);
+        }
+        if (small.length == 0) return 0;
+
+        switch (choose(small, large, sorted)) {
+            case GALLOP:
+                return intersectGallop(small, large, out);
+            case MERGE:
+                return intersectMerge(small, large, out);
+            case BITSET:
+                return intersectBitset(small, large, out);
+            default:
+                return intersectHash(small, large, out);
+        }
+    }
+
+    static Strategy choose(int[] small, int[] large, boolean sorted) {
+        if (sorted) {
+            return large.length / small.length >= GALLOP_RATIO ? Strategy.GALLOP : Strategy.MERGE;
+        }
+        int min = small[0], max = small[0];
+        for (int x : small) {
+            if (x < min) min = x;
+            if (x > max) max = x;
+        }
+        long range = (long) max - min + 1;
+        return range <= (long) small.length * BITSET_DENSITY ? Strategy.BITSET : Strategy.HASH;
+    }
+
+    // 선형 병합: 두 포인터를 나란히 전진
+    static int intersectMerge(int[] a, int[] b, int[] out) {
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                int v = a[i];
+                if (k == 0 || out[k - 1] != v) out[k++] = v;
+                i++;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    // 갤로핑: 작은 배열의 각 값을 큰 배열에서 지수 탐색으로 찾음 (커서는 앞으로만 이동)
+    static int intersectGallop(int[] small, int[] large, int[] out) {
+        int k = 0, lo = 0;
+        for (int i = 0; i < small.length && lo < large.length; i++) {
+            int v = small[i];
+            if (i > 0 && small[i - 1] == v) continue;
+            lo = gallop(large, lo, large.length, v);
+            if (lo < large.length && large[lo] == v) {
+                out[k++] = v;
+                lo++;
+            }
+        }
+        return k;
+    }
+
+    // [from, to) 구간에서 key 이상인 첫 위치 (없으면 to)
+    static int gallop(int[] arr, int from, int to, int key) {
+        if (from >= to || arr[from] >= key) return from;
+        int step = 1;
+        int prev = from;
+        int cur = from + 1;
+        while (cur < to && arr[cur] < key) {
+            prev = cur;
+            step <<= 1;
+            cur = from + step;
+        }
+        int left = prev + 1;
+        int right = java.lang.Math.min(cur, to);
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (arr[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    // 비트셋: 작은 배열의 값들을 [min, max] 범위의 long[]에 표시
+    static int intersectBitset(int[] small, int[] large, int[] out) {
+        int min = small[0], max = small[0];
+        for (int x : small) {
+            if (x < min) min = x;
+            if (x > max) max = x;
+        }
+        long[] bits = new long[(int) (((long) max - min) >>> 6) + 1];
+        for (int x : small) {
+            int off = x - min;
+            bits[off >>> 6] |= 1L << off;
+        }
+
+        int k = 0;
+        for (int x : large) {
+            if (x < min || x > max) continue;
+            int off = x - min;
+            long mask = 1L << off;
+            if ((bits[off >>> 6] & mask) != 0) {
+                bits[off >>> 6] &= ~mask;
+                out[k++] = x;
+            }
+        }
+        return k;
+    }
+
+    // 해시셋: 작은 배열로 셋을 만들고, 큰 배열에서 찾으면 지워서 중복 출력을 막음
+    static int intersectHash(int[] small, int[] large, int[] out) {
+        IntIntHashMap set = new IntIntHashMap(small.length);
+        for (int x : small) {
+            set.put(x, 1);
+        }
+
+        int k = 0;
+        for (int x : large) {
+            if (set.isEmpty()) break;
+            if (set.containsKey(x)) {
+                set.remove(x);
+                out[k++] = x;
+            }
+        }
+        return k;
+    }
+
+    // 4. 여러 배열의 교집합 (순서 모름): 짧은 배열부터 두 개씩 줄여 나감
+    public static int[] intersectAll(int[]... arrays) {
+        if (arrays.length == 0) return new int[0];
+        if (arrays.length == 1) return distinct(arrays[0]);
+
+        int[][] sorted = arrays.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(arr -> arr.length));
+        int[] result = sorted[0];
+        for (int i = 1; i < sorted.length && result.length > 0; i++) {
+            result = intersect(result, sorted[i]);
+        }
+        return result.length == 0 ? new int[0] : result;
+    }
+
+    // 모두 정렬돼 있다고 호출자가 보장하는 경우: 가장 짧은 배열을 기준으로 나머지를 갤로핑(leapfrog)
+    public static int[] intersectAllSorted(int[]... arrays) {
+        if (arrays.length == 0) return new int[0];
+
+        int[][] sorted = arrays.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(arr -> arr.length));
+        if (sorted[0].length == 0) return new int[0];
+
+        int[] base = sorted[0];
+        int[] cursors = new int[sorted.length];
+        int[] out = new int[base.length];
+        int k = 0;
+        outer:
+        for (int i = 0; i < base.length; i++) {
+            int v = base[i];
+            if (i > 0 && base[i - 1] == v) continue;
+            for (int j = 1; j < sorted.length; j++) {
+                int[] arr = sorted[j];
+                int pos = gallop(arr, cursors[j], arr.length, v);
+                cursors[j] = pos;
+                if (pos == arr.length) break outer;
+                if (arr[pos] != v) continue outer;
+            }
+            out[k++] = v;
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    private static int[] distinct(int[] arr) {
+        IntIntHashMap seen = new IntIntHashMap(arr.length);
+        int[] out = new int[arr.length];
+        int k = 0;
+        for (int x : arr) {
+            if (!seen.containsKey(x)) {
+                seen.put(x, 1);
+                out[k++] = x;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 교집합 엔진 테스트 =====\n");
+
+        // 1. 정렬 + 길이 비슷 -> 병합
+        int[] a = {1, 3, 5, 7, 9};
+        int[] b = {3, 4, 5, 6, 7};
+        System.out.println("1. 병합: " + Arrays.toString(intersectSorted(a, b)));
+
+        // 2. 정렬 + 길이 차이 큼 -> 갤로핑
+        int[] large = new int[1000];
+        for (int i = 0; i < large.length; i++) large[i] = i * 2;
+        System.out.println("2. 갤로핑: " + Arrays.toString(intersectSorted(new int[]{4, 5, 600}, large)));
+
+        // 3. 비정렬 -> 비트셋 / 해시셋
+        System.out.println("3. 비트셋: " + Arrays.toString(intersect(new int[]{9, 2, 7}, new int[]{7, 1, 9, 9})));
+        System.out.println("   해시셋: " + Arrays.toString(intersect(new int[]{1 << 30, -5}, new int[]{-5, 0, 1 << 30})));
+
+        // 4. 여러 배열
+        System.out.println("4. 다중 교집합 (정렬): " + Arrays.toString(intersectAllSorted(a, b, new int[]{5, 7, 11})));
+    }
+}
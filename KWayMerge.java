@@ -0,0 +1,366 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 정렬된 int 런(run) 여러 개를 하나로 합치는 k-way 병합
+ * - 패자 트리(loser tree, 토너먼트 트리): 원소 하나를 내보낼 때 비교 log k 번
+ * - 입력은 IntSource (int[], IntBuffer, 메모리 매핑 파일), 출력은 배치 단위 IntSink
+ * - 병렬 모드: 출력 구간을 co-ranking(merge path 분할)으로 나눠 각 구간을 독립적으로 병합
+ * 값이 같으면 앞쪽 런의 원소가 먼저 나옴 (안정 병합)
+ * 시간 복잡도: O(N log k), N = 전체 원소 수
+ */
+public class KWayMerge {
+
+    static final int DEFAULT_BATCH_SIZE = 8192;
+
+    // 정렬된 int 입력
+    public interface IntSource {
+        boolean hasNext();
+
+        int next();
+    }
+
+    // 병합 결과를 받는 곳 (batch[0, length)만 유효, 호출 후 batch는 재사용됨)
+    @FunctionalInterface
+    public interface IntSink {
+        void accept(int[] batch, int length);
+    }
+
+    // 1. int[]의 [from, to) 구간을 읽는 입력
+    public static IntSource of(int[] arr) {
+        return of(arr, 0, arr.length);
+    }
+
+    public static IntSource of(int[] arr, int from, int to) {
+        return new IntSource() {
+            int pos = from;
+
+            @Override
+            public boolean hasNext() {
+                return pos < to;
+            }
+
+            @Override
+            public int next() {
+                return arr[pos++];
+            }
+        };
+    }
+
+    // 2. IntBuffer의 position ~ limit를 읽는 입력 (힙/다이렉트/매핑 버퍼 모두 가능)
+    public static IntSource of(IntBuffer buffer) {
+        return new IntSource() {
+            @Override
+            public boolean hasNext() {
+                return buffer.hasRemaining();
+            }
+
+            @Override
+            public int next() {
+                return buffer.get();
+            }
+        };
+    }
+
+    // 3. int가 연속으로 저장된 파일을 윈도우 단위로 매핑해서 읽는 입력 (2GB 넘는 파일도 가능)
+    public static class MappedFileSource implements IntSource, Closeable {
+        static final long WINDOW_BYTES = 1L << 26;
+
+        private final FileChannel channel;
+        private final ByteOrder order;
+        private final long size;
+        private long mappedEnd;
+        private IntBuffer window;
+
+        public MappedFileSource(Path path, ByteOrder order) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.order = order;
+            this.size = channel.size() & ~3L;
+            this.window = IntBuffer.allocate(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (window.hasRemaining()) return true;
+            if (mappedEnd >= size) return false;
+            long length = java.lang.Math.min(WINDOW_BYTES, size - mappedEnd);
+            try {
+                window = channel.map(FileChannel.MapMode.READ_ONLY, mappedEnd, length).order(order).asIntBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            mappedEnd += length;
+            return window.hasRemaining();
+        }
+
+        @Override
+        public int next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return window.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // 4. 패자 트리로 여러 입력을 병합해서 sink에 배치 단위로 씀, 내보낸 원소 수를 반환
+    public static long merge(List<? extends IntSource> sources, IntSink sink) {
+        return merge(sources, sink, DEFAULT_BATCH_SIZE);
+    }
+
+    public static long merge(List<? extends IntSource> sources, IntSink sink, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize <= 0: " + batchSize);
+        }
+        int[] batch = new int[batchSize];
+        int filled = 0;
+        long written = 0;
+
+        LoserTree tree = new LoserTree(sources.toArray(new IntSource[0]));
+        while (tree.hasNext()) {
+            batch[filled++] = tree.next();
+            if (filled == batchSize) {
+                sink.accept(batch, filled);
+                written += filled;
+                filled = 0;
+            }
+        }
+        if (filled > 0) {
+            sink.accept(batch, filled);
+            written += filled;
+        }
+        return written;
+    }
+
+    // 트리 노드 1..k-1은 해당 경기의 패자, tree[0]은 최종 승자, 입력 i는 리프 i + k
+    private static class LoserTree {
+        private final IntSource[] sources;
+        private final int[] heads;
+        private final boolean[] done;
+        private final int[] tree;
+        private final int k;
+
+        LoserTree(IntSource[] sources) {
+            this.sources = sources;
+            this.k = sources.length;
+            this.heads = new int[k];
+            this.done = new boolean[k];
+            this.tree = new int[java.lang.Math.max(k, 1)];
+            if (k == 0) return;
+
+            for (int i = 0; i < k; i++) {
+                advance(i);
+            }
+            int[] winners = new int[k];
+            for (int node = k - 1; node >= 1; node--) {
+                int left = playerAt(2 * node, winners);
+                int right = playerAt(2 * node + 1, winners);
+                if (beats(left, right)) {
+                    winners[node] = left;
+                    tree[node] = right;
+                } else {
+                    winners[node] = right;
+                    tree[node] = left;
+                }
+            }
+            tree[0] = k == 1 ? 0 : winners[1];
+        }
+
+        private int playerAt(int node, int[] winners) {
+            return node >= k ? node - k : winners[node];
+        }
+
+        private void advance(int i) {
+            if (sources[i].hasNext()) {
+                heads[i] = sources[i].next();
+            } else {
+                done[i] = true;
+            }
+        }
+
+        // a가 b보다 먼저 나가야 하면 true (끝난 입력은 무한대, 같으면 앞 입력 우선)
+        private boolean beats(int a, int b) {
+            if (done[a]) return false;
+            if (done[b]) return true;
+            return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+        }
+
+        boolean hasNext() {
+            return k > 0 && !done[tree[0]];
+        }
+
+        int next() {
+            int winner = tree[0];
+            int value = heads[winner];
+            advance(winner);
+            for (int node = (winner + k) >>> 1; node > 0; node >>>= 1) {
+                if (beats(tree[node], winner)) {
+                    int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+            return value;
+        }
+    }
+
+    // 5. 메모리에 있는 정렬된 런들을 하나의 배열로 병합
+    public static int[] merge(int[]... runs) {
+        long total = 0;
+        for (int[] run : runs) total += run.length;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("결과가 너무 큼: " + total);
+        }
+        int[] out = new int[(int) total];
+        List<IntSource> sources = new ArrayList<>(runs.length);
+        for (int[] run : runs) sources.add(of(run));
+        int[] pos = new int[1];
+        merge(sources, (batch, length) -> {
+            System.arraycopy(batch, 0, out, pos[0], length);
+            pos[0] += length;
+        });
+        return out;
+    }
+
+    // 6. 병렬 병합: 출력을 parts개 구간으로 나누고, 각 경계에서 런별 분할 위치를 co-ranking으로 구함
+    public static int[] mergeParallel(int[]... runs) {
+        return mergeParallel(runs, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public static int[] mergeParallel(int[][] runs, int parts) {
+        long total = 0;
+        for (int[] run : runs) total += run.length;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("결과가 너무 큼: " + total);
+        }
+        int n = (int) total;
+        parts = java.lang.Math.max(1, java.lang.Math.min(parts, n / DEFAULT_BATCH_SIZE));
+        if (parts == 1) return merge(runs);
+
+        int[][] splits = new int[parts + 1][];
+        for (int p = 0; p <= parts; p++) {
+            splits[p] = coRank(runs, (int) ((long) n * p / parts));
+        }
+
+        int[] out = new int[n];
+        List<RecursiveAction> tasks = new ArrayList<>(parts);
+        for (int p = 0; p < parts; p++) {
+            int[] lo = splits[p];
+            int[] hi = splits[p + 1];
+            int offset = (int) ((long) n * p / parts);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    List<IntSource> sources = new ArrayList<>(runs.length);
+                    for (int r = 0; r < runs.length; r++) {
+                        sources.add(of(runs[r], lo[r], hi[r]));
+                    }
+                    int[] pos = {offset};
+                    merge(sources, (batch, length) -> {
+                        System.arraycopy(batch, 0, out, pos[0], length);
+                        pos[0] += length;
+                    });
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+        return out;
+    }
+
+    // 병합 결과의 앞 rank개가 각 런에서 몇 개씩 오는지 계산 (안정 병합 순서 기준)
+    static int[] coRank(int[][] runs, int rank) {
+        // rank번째 원소의 값 v를 이진 탐색: count(< v) <= rank < count(<= v)
+        long lo = Integer.MIN_VALUE, hi = Integer.MAX_VALUE;
+        while (lo < hi) {
+            long mid = (lo + hi) >> 1;
+            long countLessOrEqual = 0;
+            for (int[] run : runs) {
+                countLessOrEqual += upperBound(run, (int) mid);
+            }
+            if (countLessOrEqual > rank) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        int v = (int) lo;
+
+        // v 미만은 모두 포함하고, 남은 자리는 앞쪽 런의 v부터 채움
+        int[] split = new int[runs.length];
+        long remaining = rank;
+        for (int r = 0; r < runs.length; r++) {
+            split[r] = lowerBound(runs[r], v);
+            remaining -= split[r];
+        }
+        for (int r = 0; r < runs.length && remaining > 0; r++) {
+            int equal = upperBound(runs[r], v) - split[r];
+            int take = (int) java.lang.Math.min(equal, remaining);
+            split[r] += take;
+            remaining -= take;
+        }
+        return split;
+    }
+
+    private static int lowerBound(int[] arr, int key) {
+        int left = 0, right = arr.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (arr[mid] < key) left = mid + 1;
+            else right = mid;
+        }
+        return left;
+    }
+
+    private static int upperBound(int[] arr, int key) {
+        int left = 0, right = arr.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (arr[mid] <= key) left = mid + 1;
+            else right = mid;
+        }
+        return left;
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) throws IOException {
+        System.out.println("===== k-way 병합 테스트 =====\n");
+
+        int[] r1 = {1, 4, 7};
+        int[] r2 = {2, 5, 8};
+        int[] r3 = {0, 3, 6, 9};
+        System.out.println("1. 메모리 런 병합: " + Arrays.toString(merge(r1, r2, r3)));
+
+        // 2. 파일 런 + 메모리 런 병합
+        Path file = Files.createTempFile("run", ".bin");
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocate(4 * 3);
+            buf.asIntBuffer().put(new int[]{1, 5, 10});
+            ch.write(buf);
+        }
+        try (MappedFileSource fileRun = new MappedFileSource(file, ByteOrder.BIG_ENDIAN)) {
+            StringBuilder sb = new StringBuilder();
+            merge(Arrays.asList(fileRun, of(r2)), (batch, length) -> {
+                for (int i = 0; i < length; i++) sb.append(batch[i]).append(' ');
+            });
+            System.out.println("2. 파일 + 메모리 병합: " + sb.toString().trim());
+        } finally {
+            Files.delete(file);
+        }
+
+        // 3. 병렬 병합
+        int[][] runs = new int[8][100_000];
+        Random random = new Random(1);
+        for (int[] run : runs) {
+            for (int i = 0; i < run.length; i++) run[i] = random.nextInt(1_000_000);
+            Arrays.sort(run);
+        }
+        System.out.println("3. 병렬 병합 결과 일치: " + Arrays.equals(merge(runs), mergeParallel(runs)));
+    }
+}
@@ -0,0 +1,261 @@
+import java.util.*;
+
+/**
+ * 선형(오일러) 체로 만든 최소 소인수 표와 이를 이용한 빠른 소인수분해
+ * - 모든 합성수를 최소 소인수로 정확히 한 번만 지우므로 O(n)
+ * - 홀수만 저장하고, 합성수의 최소 소인수는 √n < 65536 이라 char(16비트) 하나에 들어감
+ *   (소수는 0으로 표시) -> n = 10^8에서 약 100MB (int[n + 1]이면 400MB)
+ * - factorize: 최소 소인수를 따라 나누기만 하므로 O(log n), 콜백으로 넘겨 할당 없음
+ * - φ / μ 표는 필요할 때만 최소 소인수 표에서 O(n)으로 만듦
+ * - factorizeAll: int[] 입력을 블록으로 나눠 병렬로 분해, 결과는 CSR 형태(오프셋 + 소수 + 지수)
+ */
+public class LinearSieve {
+
+    // 소인수분해 결과를 (소수, 지수) 순서대로 받음 (소수 오름차순)
+    @FunctionalInterface
+    public interface IntFactorSink {
+        void accept(int prime, int exponent);
+    }
+
+    private final int limit;
+    private final char[] oddSpf;  // oddSpf[m >>> 1] = 홀수 m의 최소 소인수 (소수면 0)
+    private final int[] primes;
+
+    private LinearSieve(int limit) {
+        this.limit = limit;
+        this.oddSpf = new char[(limit >>> 1) + 1];
+        int[] found = new int[16];
+        int count = 0;
+        found[count++] = 2;
+        for (int i = 3; i <= limit && i > 0; i += 2) {
+            int spf = oddSpf[i >>> 1];
+            if (spf == 0) {
+                if (count == found.length) found = Arrays.copyOf(found, count * 2);
+                found[count++] = i;
+                spf = i;
+            }
+            // i * p (p <= i의 최소 소인수)는 최소 소인수가 p인 합성수
+            long maxP = java.lang.Math.min(spf, limit / i);
+            for (int k = 1; k < count && found[k] <= maxP; k++) {
+                oddSpf[(i * found[k]) >>> 1] = (char) found[k];
+            }
+        }
+        this.primes = Arrays.copyOf(found, count);
+    }
+
+    // 1. [0, limit] 범위의 표 생성
+    public static LinearSieve upTo(int limit) {
+        if (limit < 2) {
+            throw new IllegalArgumentException("limit < 2: " + limit);
+        }
+        return new LinearSieve(limit);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    private void check(int n) {
+        if (n < 1 || n > limit) {
+            throw new IllegalArgumentException("범위 밖: " + n + " (1 ~ " + limit + ")");
+        }
+    }
+
+    // 2. 최소 소인수 (n >= 2)
+    public int smallestPrimeFactor(int n) {
+        check(n);
+        if (n == 1) throw new IllegalArgumentException("1은 소인수가 없음");
+        return spf(n);
+    }
+
+    private int spf(int n) {
+        if ((n & 1) == 0) return 2;
+        int p = oddSpf[n >>> 1];
+        return p == 0 ? n : p;
+    }
+
+    public boolean isPrime(int n) {
+        if (n < 2) return false;
+        check(n);
+        return spf(n) == n;
+    }
+
+    // limit 이하 소수 (오름차순, 복사본)
+    public int[] primes() {
+        return primes.clone();
+    }
+
+    // 3. 소인수분해 (할당 없음, O(log n))
+    public void factorize(int n, IntFactorSink sink) {
+        check(n);
+        int twos = Integer.numberOfTrailingZeros(n);
+        if (twos > 0) {
+            sink.accept(2, twos);
+            n >>>= twos;
+        }
+        while (n > 1) {
+            int p = spf(n);
+            int exponent = 0;
+            do {
+                n /= p;
+                exponent++;
+            } while (n % p == 0);
+            sink.accept(p, exponent);
+        }
+    }
+
+    // 서로 다른 소인수 개수 ω(n)
+    public int distinctPrimeFactors(int n) {
+        check(n);
+        int count = 0;
+        while (n > 1) {
+            int p = spf(n);
+            do {
+                n /= p;
+            } while (n % p == 0);
+            count++;
+        }
+        return count;
+    }
+
+    // 4. 오일러 φ(n), 뫼비우스 μ(n) (값 하나, O(log n))
+    public int phi(int n) {
+        check(n);
+        int result = n;
+        int m = n;
+        while (m > 1) {
+            int p = spf(m);
+            result -= result / p;
+            while (m % p == 0) m /= p;
+        }
+        return result;
+    }
+
+    public int mobius(int n) {
+        check(n);
+        int result = 1;
+        while (n > 1) {
+            int p = spf(n);
+            n /= p;
+            if (n % p == 0) return 0;
+            result = -result;
+        }
+        return result;
+    }
+
+    // 5. φ 표 [0, limit] (phi[i] = phi[i / p] × (p 또는 p - 1), O(n))
+    public int[] phiTable() {
+        int[] phi = new int[limit + 1];
+        if (limit >= 1) phi[1] = 1;
+        for (int i = 2; i <= limit && i > 0; i++) {
+            int p = spf(i);
+            int rest = i / p;
+            phi[i] = rest % p == 0 ? phi[rest] * p : phi[rest] * (p - 1);
+        }
+        return phi;
+    }
+
+    // μ 표 [0, limit]
+    public byte[] mobiusTable() {
+        byte[] mu = new byte[limit + 1];
+        if (limit >= 1) mu[1] = 1;
+        for (int i = 2; i <= limit && i > 0; i++) {
+            int p = spf(i);
+            int rest = i / p;
+            mu[i] = rest % p == 0 ? 0 : (byte) -mu[rest];
+        }
+        return mu;
+    }
+
+    // 6. 여러 값의 소인수분해 결과 (CSR: values[i]의 인수는 [offsets[i], offsets[i + 1]))
+    public static final class Factorizations {
+        private final int[] offsets;
+        private final int[] primes;
+        private final byte[] exponents;
+
+        private Factorizations(int[] offsets, int[] primes, byte[] exponents) {
+            this.offsets = offsets;
+            this.primes = primes;
+            this.exponents = exponents;
+        }
+
+        public int size() {
+            return offsets.length - 1;
+        }
+
+        // values[i]의 서로 다른 소인수 개수
+        public int count(int i) {
+            return offsets[i + 1] - offsets[i];
+        }
+
+        public int prime(int i, int k) {
+            return primes[index(i, k)];
+        }
+
+        public int exponent(int i, int k) {
+            return exponents[index(i, k)];
+        }
+
+        private int index(int i, int k) {
+            if (k < 0 || k >= count(i)) {
+                throw new IndexOutOfBoundsException("factor " + k + ", count " + count(i));
+            }
+            return offsets[i] + k;
+        }
+
+        public void forEach(int i, IntFactorSink sink) {
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) sink.accept(primes[k], exponents[k]);
+        }
+    }
+
+    // 블록마다 병렬로 인수 개수를 센 뒤 누적합으로 자리를 잡고, 다시 병렬로 채움
+    public Factorizations factorizeAll(int[] values) {
+        int n = values.length;
+        int[] offsets = new int[n + 1];
+        ParallelScan.parallelFor(n, (from, to) -> {
+            for (int i = from; i < to; i++) offsets[i + 1] = distinctPrimeFactors(values[i]);
+        });
+        ParallelScan.inclusiveScan(offsets);
+        int[] primeOut = new int[offsets[n]];
+        byte[] exponentOut = new byte[offsets[n]];
+        ParallelScan.parallelFor(n, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int m = values[i];
+                for (int at = offsets[i]; m > 1; at++) {
+                    int p = spf(m);
+                    int exponent = 0;
+                    do {
+                        m /= p;
+                        exponent++;
+                    } while (m % p == 0);
+                    primeOut[at] = p;
+                    exponentOut[at] = (byte) exponent;
+                }
+            }
+        });
+        return new Factorizations(offsets, primeOut, exponentOut);
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 선형 체 / 소인수분해 테스트 =====\n");
+
+        long begin = System.nanoTime();
+        LinearSieve sieve = upTo(100_000_000);
+        System.out.printf("1. 10^8까지 최소 소인수 표: %d ms, 소수 %d개%n",
+            (System.nanoTime() - begin) / 1_000_000, sieve.primes.length);
+
+        StringBuilder factors = new StringBuilder();
+        sieve.factorize(99_999_990, (p, e) -> factors.append(p).append(e > 1 ? "^" + e : "").append(' '));
+        System.out.println("2. 99999990 = " + factors);
+        System.out.println("3. φ(36) = " + sieve.phi(36) + ", μ(30) = " + sieve.mobius(30));
+
+        int[] values = new int[5_000_000];
+        Random random = new Random(1);
+        for (int i = 0; i < values.length; i++) values[i] = 1 + random.nextInt(100_000_000);
+        begin = System.nanoTime();
+        Factorizations all = sieve.factorizeAll(values);
+        System.out.printf("4. 500만 개 병렬 소인수분해: %d ms (첫 값 %d의 인수 %d개)%n",
+            (System.nanoTime() - begin) / 1_000_000, values[0], all.count(0));
+    }
+}
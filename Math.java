@@ -21,36 +21,32 @@ public class Math {
     }
 
     // 3. 소수 확인
+    // 작은 수는 비트셋 조회, 큰 수는 결정적 Miller-Rabin (Primality)
+    // (i * i <= n 나눗셈 루프는 O(√n)이고 Integer.MAX_VALUE 근처에서 i * i가 넘침)
     public static boolean isPrime(int n) {
-        if (n < 2) return false;
-        if (n == 2) return true;
-        if (n % 2 == 0) return false;
-        
-        for (int i = 3; i * i <= n; i += 2) {
-            if (n % i == 0) return false;
-        }
-        return true;
+        return Primality.isPrime(n);
+    }
+
+    public static boolean isPrime(long n) {
+        return Primality.isPrime(n);
     }
 
     // 4. 에라토스테네스의 체 (소수 찾기)
+    // 홀수만 비트로 저장하는 세그먼트 체 (PrimeSieve), 결과는 int[] 위의 읽기 전용 리스트
     public static List<Integer> sieveOfEratosthenes(int n) {
-        boolean[] prime = new boolean[n + 1];
-        Arrays.fill(prime, true);
-        prime[0] = prime[1] = false;
-        
-        for (int i = 2; i * i <= n; i++) {
-            if (prime[i]) {
-                for (int j = i * i; j <= n; j += i) {
-                    prime[j] = false;
-                }
+        if (n < 2) return Collections.emptyList();
+        int[] primes = PrimeSieve.primes(0, n + 1L);
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return primes[index];
             }
-        }
-        
-        List<Integer> primes = new ArrayList<>();
-        for (int i = 2; i <= n; i++) {
-            if (prime[i]) primes.add(i);
-        }
-        return primes;
+
+            @Override
+            public int size() {
+                return primes.length;
+            }
+        };
     }
 
     // 5. 팩토리얼
@@ -66,17 +62,14 @@ public class Math {
     }
 
     // 6. 조합 (nCr)
+    // 팩토리얼 세 번 대신 곱셈 공식을 약분하며 계산, long을 넘으면 ArithmeticException (Combinatorics)
     public static long combination(int n, int r) {
-        if (r > n) return 0;
-        if (r == 0 || r == n) return 1;
-        
-        return factorial(n) / (factorial(r) * factorial(n - r));
+        return Combinatorics.binomialExact(n, r);
     }
 
-    // 7. 순열 (nPr)
+    // 7. 순열 (nPr) (long을 넘으면 ArithmeticException)
     public static long permutation(int n, int r) {
-        if (r > n) return 0;
-        return factorial(n) / factorial(n - r);
+        return Combinatorics.permutationExact(n, r);
     }
 
     // 8. 거듭제곱 (Power)
@@ -162,6 +155,11 @@ public class Math {
         return sqrt * sqrt == n;
     }
 
+    // 15. [lo, hi) 구간의 소수 개수 (int 범위를 넘는 구간도 가능, 메모리 O(√hi))
+    public static long countPrimes(long lo, long hi) {
+        return PrimeSieve.count(lo, hi);
+    }
+
     // ==================== 테스트 코드 ====================
     public static void main(String[] args) {
         System.out.println("===== 수학 알고리즘 테스트 =====\n");
@@ -238,5 +236,10 @@ public class Math {
         System.out.println("14. 완전제곱수");
         System.out.println("16은 완전제곱수: " + isPerfectSquare(16));
         System.out.println("17은 완전제곱수: " + isPerfectSquare(17));
+        System.out.println();
+
+        // 15. 구간 소수 개수
+        System.out.println("15. 구간 소수 개수");
+        System.out.println("[10^10, 10^10 + 10^6) : " + countPrimes(10_000_000_000L, 10_001_000_000L));
     }
 }
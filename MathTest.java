@@ -1,6 +1,7 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
 
 @DisplayName("Math 알고리즘 테스트")
 public class MathTest {
@@ -77,6 +78,152 @@ public class MathTest {
         assertFalse(result[4]);
     }
 
+    @Test
+    @DisplayName("세그먼트 체 - 구간 소수 개수")
+    void testSegmentedSieveCount() {
+        assertEquals(78498, Math.countPrimes(0, 1_000_001));
+        assertEquals(82025, PrimeSieve.count(1 << 20));
+        assertEquals(4, Math.countPrimes(2, 8));
+        assertEquals(0, Math.countPrimes(24, 29));
+        assertEquals(PrimeSieve.count(0, 3_000_000) - PrimeSieve.count(0, 1_000_000),
+            PrimeSieve.count(1_000_000, 3_000_000));
+        assertThrows(IllegalArgumentException.class, () -> PrimeSieve.count(10, 5));
+    }
+
+    @Test
+    @DisplayName("세그먼트 체 - 배열 / 스트림 / 반복자가 세그먼트 경계에서도 일치")
+    void testSegmentedSievePrimes() {
+        assertEquals(List.of(2, 3, 5, 7, 11, 13, 17, 19, 23, 29), Math.sieveOfEratosthenes(30));
+        long lo = PrimeSieve.SEGMENT_SPAN - 1000, hi = PrimeSieve.SEGMENT_SPAN + 1000;
+        long[] streamed = PrimeSieve.stream(lo, hi).parallel().toArray();
+        int[] array = PrimeSieve.primes(lo, hi);
+        PrimitiveIterator.OfLong it = PrimeSieve.iterator(lo, hi);
+        assertEquals(PrimeSieve.count(lo, hi), streamed.length);
+        for (int i = 0; i < streamed.length; i++) {
+            assertEquals(streamed[i], array[i]);
+            assertEquals(streamed[i], it.nextLong());
+            assertTrue(Math.isPrime(array[i]));
+        }
+        assertFalse(it.hasNext());
+        assertEquals(100_000_000_003L, PrimeSieve.iterator(100_000_000_000L, 100_000_000_100L).nextLong());
+    }
+
+    @Test
+    @DisplayName("선형 체 - 최소 소인수, 소인수분해, φ / μ")
+    void testLinearSieveFactorize() {
+        LinearSieve sieve = LinearSieve.upTo(1_000_000);
+        assertEquals(7, sieve.smallestPrimeFactor(49));
+        assertTrue(sieve.isPrime(999_983));
+        assertFalse(sieve.isPrime(1));
+        StringBuilder factors = new StringBuilder();
+        sieve.factorize(720_720, (p, e) -> factors.append(p).append('^').append(e).append(' '));
+        assertEquals("2^4 3^2 5^1 7^1 11^1 13^1 ", factors.toString());
+        assertEquals(12, sieve.phi(36));
+        assertEquals(-1, sieve.mobius(30));
+        assertEquals(0, sieve.mobius(12));
+        int[] phi = sieve.phiTable();
+        byte[] mu = sieve.mobiusTable();
+        assertEquals(sieve.phi(999_999), phi[999_999]);
+        assertEquals(sieve.mobius(999_999), mu[999_999]);
+        assertThrows(IllegalArgumentException.class, () -> sieve.factorize(1_000_001, (p, e) -> { }));
+    }
+
+    @Test
+    @DisplayName("선형 체 - 병렬 일괄 소인수분해")
+    void testLinearSieveFactorizeAll() {
+        LinearSieve sieve = LinearSieve.upTo(1 << 20);
+        int[] values = new int[50_000];
+        for (int i = 0; i < values.length; i++) values[i] = 1 + i * 20;
+        LinearSieve.Factorizations all = sieve.factorizeAll(values);
+        assertEquals(values.length, all.size());
+        assertEquals(0, all.count(0));
+        for (int i = 0; i < values.length; i++) {
+            long product = 1;
+            for (int k = 0; k < all.count(i); k++) {
+                product *= (long) java.lang.Math.pow(all.prime(i, k), all.exponent(i, k));
+            }
+            assertEquals(values[i], product);
+            assertEquals(sieve.distinctPrimeFactors(values[i]), all.count(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Miller-Rabin - int 경계와 long 범위 소수 판별")
+    void testMillerRabinIsPrime() {
+        assertTrue(Math.isPrime(Integer.MAX_VALUE));
+        assertFalse(Math.isPrime(Integer.MAX_VALUE - 2));
+        assertFalse(Math.isPrime(-7));
+        assertTrue(Math.isPrime((1L << 61) - 1));
+        assertTrue(Math.isPrime(Long.MAX_VALUE - 24));
+        assertFalse(Math.isPrime(Long.MAX_VALUE));
+        // 작은 밑 몇 개로는 속는 강한 유사 소수
+        assertFalse(Math.isPrime(3_215_031_751L));
+        assertFalse(Math.isPrime(3_825_123_056_546_413_051L));
+        assertFalse(Math.isPrime(4_294_967_297L));  // 641 × 6700417
+        for (int p : PrimeSieve.primes(0, 1 << 17)) assertTrue(Primality.isPrime(p));
+        assertEquals(PrimeSieve.count(1 << 17), java.util.stream.IntStream.range(0, 1 << 17).filter(Math::isPrime).count());
+    }
+
+    @Test
+    @DisplayName("Miller-Rabin - 병렬 일괄 판별")
+    void testMillerRabinBatch() {
+        long lo = 1_000_000_000_000L;
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) values[i] = lo + i;
+        boolean[] result = Primality.isPrime(values);
+        int found = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (result[i]) found++;
+            assertEquals(Primality.isPrime(values[i]), result[i]);
+        }
+        assertEquals(PrimeSieve.count(lo, lo + values.length), found);
+    }
+
+    @Test
+    @DisplayName("조합 표 - mod p nCr / nPr / 다항계수, Lucas")
+    void testCombinatoricsMod() {
+        Combinatorics table = Combinatorics.mod(1_000_000, 1_000_000_007);
+        assertEquals(10, table.nCr(5, 2));
+        assertEquals(0, table.nCr(5, 6));
+        assertEquals(60, table.nPr(5, 3));
+        assertEquals(60, table.multinomial(3, 2, 1));
+        assertEquals(Combinatorics.binomial(1000, 500).mod(java.math.BigInteger.valueOf(1_000_000_007)).longValue(),
+            table.nCr(1000, 500));
+        assertEquals(1, table.factorial(1000) * table.inverseFactorial(1000) % 1_000_000_007);
+
+        Combinatorics small = Combinatorics.mod(100, 7);
+        assertEquals(6, small.tableLimit());
+        // C(1000, 300) mod 7: 1000 = (2626)_7, 300 = (0606)_7 -> C(2,0) C(6,6) C(2,0) C(6,6) = 1
+        assertEquals(Combinatorics.binomial(1000, 300).mod(java.math.BigInteger.valueOf(7)).longValue(),
+            small.nCr(1000, 300));
+        // 표가 모든 나머지를 덮으면 n >= p인 nPr도 n mod p로 계산 (9 × 8 = 72 ≡ 2 mod 7)
+        Combinatorics full = Combinatorics.mod(6, 7);
+        assertEquals(2, full.nPr(9, 2));
+        assertEquals(0, full.nPr(9, 3));
+        assertEquals(Combinatorics.permutation(1000, 4).mod(java.math.BigInteger.valueOf(7)).longValue(), full.nPr(1000, 4));
+        assertThrows(IllegalArgumentException.class, () -> Combinatorics.mod(10, 1_000_000));
+    }
+
+    @Test
+    @DisplayName("조합 - 정확한 값, long 초과 감지와 BigInteger")
+    void testCombinatoricsExact() {
+        assertEquals(7_219_428_434_016_265_740L, Math.combination(66, 33));
+        assertEquals(0, Math.combination(3, 5));
+        assertThrows(ArithmeticException.class, () -> Math.combination(68, 34));
+        assertEquals(new java.math.BigInteger("100891344545564193334812497256"), Combinatorics.binomial(100, 50));
+        assertThrows(ArithmeticException.class, () -> Math.permutation(21, 21));
+        assertEquals(Combinatorics.permutation(25, 25), java.math.BigInteger.valueOf(Math.factorial(20))
+            .multiply(java.math.BigInteger.valueOf(21L * 22 * 23 * 24 * 25)));
+        // n = Integer.MAX_VALUE 경계 (루프 변수가 int면 넘침)
+        assertEquals(1, Combinatorics.permutationExact(Integer.MAX_VALUE, 0));
+        assertEquals(Integer.MAX_VALUE, Math.permutation(Integer.MAX_VALUE, 1));
+        assertEquals((long) Integer.MAX_VALUE * (Integer.MAX_VALUE - 1), Math.permutation(Integer.MAX_VALUE, 2));
+        assertEquals(java.math.BigInteger.valueOf(Integer.MAX_VALUE), Combinatorics.permutation(Integer.MAX_VALUE, 1));
+        assertEquals(java.math.BigInteger.valueOf(Integer.MAX_VALUE).pow(3).subtract(
+            java.math.BigInteger.valueOf(Integer.MAX_VALUE).pow(2).multiply(java.math.BigInteger.valueOf(3)))
+            .add(java.math.BigInteger.valueOf(2L * Integer.MAX_VALUE)), Combinatorics.permutation(Integer.MAX_VALUE, 3));
+    }
+
     @Test
     @DisplayName("팩토리얼")
     void testFactorial() {
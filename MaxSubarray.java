@@ -0,0 +1,223 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 최대 부분배열 합의 구간 요약 (분할 정복 Kadane)
+ * 구간마다 (전체 합, 최대 접두사 합, 최대 접미사 합, 최대 부분배열 합)을 들고 있으면
+ * 두 구간의 요약을 O(1)에 합칠 수 있음 (결합 법칙 성립)
+ * - 병렬: 청크별 요약을 fork-join으로 계산한 뒤 합침
+ * - 증분: 새 청크가 들어오면 그 청크의 요약만 계산해서 뒤에 붙임
+ * 합은 long으로 누적하고, 인덱스는 이 요약이 덮는 구간의 시작 기준
+ * 시간 복잡도: O(n), 병렬 모드는 O(n / P + log n)
+ */
+public class MaxSubarray {
+
+    // 이 크기 이하의 구간은 병렬로 나누지 않고 바로 계산
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private long length;
+    private long total;
+    private long prefix;       // 최대 접두사 합, 구간 [0, prefixEnd)
+    private long prefixEnd;
+    private long suffix;       // 최대 접미사 합, 구간 [suffixStart, length)
+    private long suffixStart;
+    private long best;         // 최대 부분배열 합, 구간 [bestStart, bestEnd)
+    private long bestStart;
+    private long bestEnd;
+
+    // 빈 요약 (합칠 때 항등원)
+    public MaxSubarray() {
+    }
+
+    // 1. 배열 전체의 요약 (순차)
+    public static MaxSubarray of(int[] arr) {
+        return of(arr, 0, arr.length);
+    }
+
+    // [from, to) 구간 요약을 한 번의 순회로 계산
+    public static MaxSubarray of(int[] arr, int from, int to) {
+        MaxSubarray s = new MaxSubarray();
+        if (from >= to) return s;
+
+        long running = 0;                   // [from, i] 누적합
+        long minPrefix = 0;                 // [from, j) 누적합의 최솟값 (j <= i)
+        int minPrefixAt = from;
+        long maxEndingHere = 0;             // i에서 끝나는 최대 부분배열 합
+        int startHere = from;
+
+        s.prefix = Long.MIN_VALUE;
+        s.best = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            int x = arr[i];
+            if (i == from || maxEndingHere < 0) {
+                maxEndingHere = x;
+                startHere = i;
+            } else {
+                maxEndingHere += x;
+            }
+            if (maxEndingHere > s.best) {
+                s.best = maxEndingHere;
+                s.bestStart = startHere - from;
+                s.bestEnd = i + 1 - from;
+            }
+
+            running += x;
+            if (running > s.prefix) {
+                s.prefix = running;
+                s.prefixEnd = i + 1 - from;
+            }
+            // 최대 접미사 합 = 전체 합 - (마지막 원소 전까지의 최소 누적합)
+            if (i + 1 < to && running < minPrefix) {
+                minPrefix = running;
+                minPrefixAt = i + 1;
+            }
+        }
+        s.length = to - from;
+        s.total = running;
+        s.suffix = running - minPrefix;
+        s.suffixStart = minPrefixAt - from;
+        return s;
+    }
+
+    // 2. 배열 전체의 요약 (fork-join 병렬)
+    public static MaxSubarray ofParallel(int[] arr) {
+        if (arr.length <= PARALLEL_THRESHOLD) return of(arr);
+        return ForkJoinPool.commonPool().invoke(new SummaryTask(arr, 0, arr.length));
+    }
+
+    private static class SummaryTask extends RecursiveTask<MaxSubarray> {
+        private static final long serialVersionUID = 1L;
+        private final int[] arr;
+        private final int from, to;
+
+        SummaryTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected MaxSubarray compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return of(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SummaryTask left = new SummaryTask(arr, from, mid);
+            left.fork();
+            MaxSubarray right = new SummaryTask(arr, mid, to).compute();
+            return left.join().append(right);
+        }
+    }
+
+    // 3. 뒤에 이어지는 구간의 요약을 합침 (this가 갱신됨, right는 변경하지 않음)
+    public MaxSubarray append(MaxSubarray right) {
+        if (right.length == 0) return this;
+        if (length == 0) {
+            copyFrom(right);
+            return this;
+        }
+        long offset = length;
+
+        // 최대 부분배열: 왼쪽 안, 오른쪽 안, 또는 경계를 걸치는 경우
+        long crossing = suffix + right.prefix;
+        if (right.best > best) {
+            best = right.best;
+            bestStart = right.bestStart + offset;
+            bestEnd = right.bestEnd + offset;
+        }
+        if (crossing > best) {
+            best = crossing;
+            bestStart = suffixStart;
+            bestEnd = right.prefixEnd + offset;
+        }
+
+        if (total + right.prefix > prefix) {
+            prefix = total + right.prefix;
+            prefixEnd = right.prefixEnd + offset;
+        }
+
+        if (suffix + right.total > right.suffix) {
+            suffix = suffix + right.total;
+        } else {
+            suffix = right.suffix;
+            suffixStart = right.suffixStart + offset;
+        }
+
+        total += right.total;
+        length += right.length;
+        return this;
+    }
+
+    // 새로 들어온 청크를 재순회 없이 반영
+    public MaxSubarray append(int[] chunk) {
+        return append(of(chunk));
+    }
+
+    private void copyFrom(MaxSubarray o) {
+        length = o.length;
+        total = o.total;
+        prefix = o.prefix;
+        prefixEnd = o.prefixEnd;
+        suffix = o.suffix;
+        suffixStart = o.suffixStart;
+        best = o.best;
+        bestStart = o.bestStart;
+        bestEnd = o.bestEnd;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // 최대 부분배열 합 (빈 요약이면 예외)
+    public long getBest() {
+        checkNotEmpty();
+        return best;
+    }
+
+    // 최대 부분배열의 시작 인덱스
+    public long getStart() {
+        checkNotEmpty();
+        return bestStart;
+    }
+
+    // 최대 부분배열의 끝 인덱스 (포함)
+    public long getEnd() {
+        checkNotEmpty();
+        return bestEnd - 1;
+    }
+
+    private void checkNotEmpty() {
+        if (length == 0) {
+            throw new NoSuchElementException("빈 구간에는 부분배열이 없음");
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 최대 부분배열 (구간 요약) 테스트 =====\n");
+
+        int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        MaxSubarray result = of(arr);
+        System.out.println("1. 최대합: " + result.getBest()
+            + " [" + result.getStart() + ", " + result.getEnd() + "]");
+
+        // 증분: 청크를 이어 붙이며 갱신
+        MaxSubarray stream = new MaxSubarray();
+        stream.append(new int[]{-2, 1, -3, 4});
+        stream.append(new int[]{-1, 2, 1});
+        stream.append(new int[]{-5, 4});
+        System.out.println("2. 증분 최대합: " + stream.getBest()
+            + " [" + stream.getStart() + ", " + stream.getEnd() + "]");
+
+        // 병렬: int 합이 넘치는 큰 배열
+        int[] big = new int[1_000_000];
+        Arrays.fill(big, 1 << 20);
+        big[500_000] = -1;
+        System.out.println("3. 병렬 최대합: " + ofParallel(big).getBest());
+    }
+}
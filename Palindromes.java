@@ -0,0 +1,154 @@
+/**
+ * Manacher 알고리즘으로 모든 중심의 최대 팰린드롬 길이를 O(n)에 구해 두는 구조
+ * - 문자 사이마다 가상의 구분자를 끼운 길이 2n+1 수열을 실제로 만들지 않고 인덱스로만 다룸
+ *   radius[c] = 중심 c (짝수: 문자 사이, 홀수: 문자 하나)에서 가장 긴 팰린드롬의 원래 길이
+ * - isPalindrome(from, to): 중심 from + to의 반지름과 비교만 하므로 O(1)
+ * - longest / count: 빌드할 때 함께 계산
+ * - ofNormalized: String.isPalindrome과 같은 규칙(소문자로 바꾼 뒤 a-z, 0-9만 남김)으로 거른 문자열 기준,
+ *   걸러진 문자를 복사하지 않고 원본 위치 배열만 둠
+ * - isNormalizedPalindrome: 구조를 만들지 않고 양끝 포인터로 거르며 비교 (할당 없음)
+ * 메모리: int 배열 2n+1개 (정규화 모드는 원본 위치 n개 추가)
+ */
+public class Palindromes {
+
+    private final CharSequence text;
+    private final int[] positions;  // 정규화 모드: k번째 남은 문자의 원본 위치 (그 외 null)
+    private final int length;
+    private final int[] radius;
+    private final int longestCenter;
+    private final long count;
+
+    private Palindromes(CharSequence text, int[] positions, int length) {
+        this.text = text;
+        this.positions = positions;
+        this.length = length;
+        this.radius = new int[2 * length + 1];
+        int best = 0;
+        long total = 0;
+        int center = 0, right = 0;  // 오른쪽 끝이 가장 먼 팰린드롬 [center - radius, right]
+        for (int i = 0; i < radius.length; i++) {
+            int r = i < right ? java.lang.Math.min(radius[2 * center - i], right - i) : 0;
+            // 구분자 위치(짝수)끼리는 항상 같으므로 문자 위치만 비교
+            while (i - r - 1 >= 0 && i + r + 1 < radius.length
+                    && ((i - r) % 2 == 1 || charAt((i - r - 1) / 2) == charAt((i + r + 1) / 2))) {
+                r++;
+            }
+            radius[i] = r;
+            if (i + r > right) {
+                center = i;
+                right = i + r;
+            }
+            if (r > radius[best]) best = i;
+            total += (r + 1) / 2;
+        }
+        this.longestCenter = best;
+        this.count = total;
+    }
+
+    // 1. 원본 그대로
+    public static Palindromes of(CharSequence text) {
+        return new Palindromes(text, null, text.length());
+    }
+
+    // 2. String.isPalindrome 규칙으로 거른 문자열 기준 (위치는 걸러진 문자열 기준, sourceIndex로 원본 위치)
+    public static Palindromes ofNormalized(CharSequence text) {
+        int[] positions = new int[text.length()];
+        int kept = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (fold(text.charAt(i)) >= 0) positions[kept++] = i;
+        }
+        return new Palindromes(text, positions, kept);
+    }
+
+    // 비교에 남는 문자면 소문자, 아니면 -1
+    // Character.toLowerCase는 로캘과 무관 (String.toLowerCase + [^a-z0-9] 제거와 char 단위로 같은 결과)
+    static int fold(char c) {
+        if (c < 128) {
+            if (c >= 'A' && c <= 'Z') return c + ('a' - 'A');
+            return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') ? c : -1;
+        }
+        char lower = Character.toLowerCase(c);
+        return lower >= 'a' && lower <= 'z' ? lower : -1;
+    }
+
+    private char charAt(int k) {
+        return positions == null ? text.charAt(k) : (char) fold(text.charAt(positions[k]));
+    }
+
+    // 3. 할당 없이 양끝에서 거르며 비교 (String.isPalindrome과 같은 의미)
+    public static boolean isNormalizedPalindrome(CharSequence text) {
+        int i = 0, j = text.length() - 1;
+        while (true) {
+            int a = -1, b = -1;
+            while (i < j && (a = fold(text.charAt(i))) < 0) i++;
+            while (i < j && (b = fold(text.charAt(j))) < 0) j--;
+            if (i >= j) return true;
+            if (a != b) return false;
+            i++;
+            j--;
+        }
+    }
+
+    public int length() {
+        return length;
+    }
+
+    // 걸러진 문자열의 k번째 문자가 원본에서 있던 위치 (원본 모드는 k 그대로)
+    public int sourceIndex(int k) {
+        if (k < 0 || k >= length) {
+            throw new IndexOutOfBoundsException("index " + k + ", length " + length);
+        }
+        return positions == null ? k : positions[k];
+    }
+
+    // 4. [from, to)가 팰린드롬인지 O(1)
+    public boolean isPalindrome(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + length);
+        }
+        return radius[from + to] >= to - from;
+    }
+
+    // 위치 center를 중심으로 하는 가장 긴 홀수 길이 팰린드롬의 길이
+    public int oddRadius(int center) {
+        sourceIndex(center);
+        return radius[2 * center + 1];
+    }
+
+    // 5. 가장 긴 팰린드롬 부분 문자열 (여러 개면 가장 왼쪽)
+    public int longestStart() {
+        return (longestCenter - radius[longestCenter]) / 2;
+    }
+
+    public int longestLength() {
+        return radius[longestCenter];
+    }
+
+    // 원본에서 잘라낸 문자열 (정규화 모드는 첫 문자 ~ 마지막 문자 사이의 원본 구간)
+    public java.lang.String longest() {
+        int len = longestLength();
+        if (len == 0) return "";
+        int start = longestStart();
+        return text.subSequence(sourceIndex(start), sourceIndex(start + len - 1) + 1).toString();
+    }
+
+    // 6. 팰린드롬 부분 문자열 개수 (위치가 다르면 따로 셈)
+    public long count() {
+        return count;
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== Manacher 팰린드롬 테스트 =====\n");
+
+        Palindromes dna = of("GATTACATTAG");
+        System.out.println("1. 'GATTACATTAG' [1, 10) 팰린드롬? " + dna.isPalindrome(1, 10)
+            + ", [0, 4) 팰린드롬? " + dna.isPalindrome(0, 4));
+        System.out.println("2. 가장 긴 팰린드롬: " + dna.longest() + ", 개수: " + dna.count());
+
+        Palindromes sentence = ofNormalized("Madam, in Eden, I'm Adam!");
+        System.out.println("3. 정규화 후 가장 긴 팰린드롬: '" + sentence.longest() + "'");
+        System.out.println("4. 'A man, a plan, a canal: Panama' : "
+            + isNormalizedPalindrome("A man, a plan, a canal: Panama"));
+    }
+}
@@ -0,0 +1,245 @@
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * 블록 단위 병렬 누적합(scan)과 이를 이용한 안정 분할(stable partition) / 압축(compaction)
+ * 세 단계로 동작:
+ *   1) 블록마다 병렬로 합(또는 조건을 만족하는 개수)을 셈
+ *   2) 블록 합들을 순차로 누적해 각 블록의 시작 오프셋을 구함 (블록 수만큼만)
+ *   3) 블록마다 병렬로 오프셋부터 값을 채우거나 원소를 흩뿌림(scatter)
+ * parallelFor: [0, n)을 고정 크기 블록으로 나눠 병렬 실행 (구간 질의, 체, 소수 판별 등이 함께 씀)
+ * 시간 복잡도: O(n / P + 블록 수)
+ */
+public class ParallelScan {
+
+    // 블록 하나의 최소 크기 (너무 잘게 나누면 작업 분배 비용이 더 큼)
+    static final int MIN_BLOCK = 1 << 15;
+
+    private static int blockCount(int n) {
+        int parallelism = java.lang.Math.max(1, Runtime.getRuntime().availableProcessors());
+        return java.lang.Math.max(1, java.lang.Math.min(n / MIN_BLOCK, parallelism * 4));
+    }
+
+    private static int blockStart(int n, int blocks, int b) {
+        return (int) ((long) n * b / blocks);
+    }
+
+    // parallelFor 블록 크기 (이 크기 미만의 작업은 병렬로 나누지 않음)
+    static final int FOR_BLOCK = 1 << 14;
+
+    @FunctionalInterface
+    interface RangeAction {
+        void run(int from, int to);
+    }
+
+    // [0, n)을 FOR_BLOCK 크기 블록으로 나눠 병렬로 처리
+    static void parallelFor(int n, RangeAction action) {
+        if (n < FOR_BLOCK) {
+            action.run(0, n);
+            return;
+        }
+        int blocks = (n + FOR_BLOCK - 1) / FOR_BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(b ->
+            action.run(b * FOR_BLOCK, (int) java.lang.Math.min(n, (long) (b + 1) * FOR_BLOCK)));
+    }
+
+    // 1. 포함 누적합 (제자리): arr[i] = arr[0] + ... + arr[i]
+    public static void inclusiveScan(long[] arr) {
+        int n = arr.length;
+        int blocks = blockCount(n);
+        long[] sums = new long[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            long s = 0;
+            for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                s += arr[i];
+            }
+            sums[b] = s;
+        });
+        exclusiveScanInPlace(sums);
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            long s = sums[b];
+            for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                s += arr[i];
+                arr[i] = s;
+            }
+        });
+    }
+
+    // int 버전 (합이 int 범위를 넘으면 2^32로 나눈 나머지처럼 넘침)
+    public static void inclusiveScan(int[] arr) {
+        int n = arr.length;
+        int blocks = blockCount(n);
+        long[] sums = new long[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int s = 0;
+            for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                s += arr[i];
+            }
+            sums[b] = s;
+        });
+        exclusiveScanInPlace(sums);
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int s = (int) sums[b];
+            for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                s += arr[i];
+                arr[i] = s;
+            }
+        });
+    }
+
+    // 블록 수만큼의 짧은 배열이라 순차로 처리
+    private static long exclusiveScanInPlace(long[] sums) {
+        long running = 0;
+        for (int b = 0; b < sums.length; b++) {
+            long s = sums[b];
+            sums[b] = running;
+            running += s;
+        }
+        return running;
+    }
+
+    // 2. 안정 분할 (제자리 아님): 조건을 만족하는 원소를 순서대로 dst 앞쪽에, 나머지를 순서대로 뒤쪽에
+    // 반환값은 조건을 만족한 원소 수
+    public static int partition(int[] src, int[] dst, IntPredicate keep) {
+        if (src == dst) {
+            throw new IllegalArgumentException("제자리 분할은 partitionInPlace를 사용");
+        }
+        if (dst.length < src.length) {
+            throw new IllegalArgumentException("dst가 작음: " + dst.length + " < " + src.length);
+        }
+        int n = src.length;
+        int blocks = blockCount(n);
+        long[] kept = countKept(src, keep, blocks);
+        int totalKept = (int) exclusiveScanInPlace(kept);
+
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int start = blockStart(n, blocks, b);
+            int k = (int) kept[b];
+            int r = totalKept + (start - k);  // 앞 블록들의 탈락 원소 수 = start - (앞 블록들의 유지 수)
+            for (int i = start, end = blockStart(n, blocks, b + 1); i < end; i++) {
+                int x = src[i];
+                if (keep.test(x)) {
+                    dst[k++] = x;
+                } else {
+                    dst[r++] = x;
+                }
+            }
+        });
+        return totalKept;
+    }
+
+    private static long[] countKept(int[] arr, IntPredicate keep, int blocks) {
+        int n = arr.length;
+        long[] kept = new long[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int c = 0;
+            for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                if (keep.test(arr[i])) c++;
+            }
+            kept[b] = c;
+        });
+        return kept;
+    }
+
+    // 3. 안정 분할 (제자리): 블록 안에서 먼저 병렬로 압축하고, 블록 조각을 왼쪽으로 밀어 붙임
+    // 탈락 원소는 탈락 개수 크기의 보조 배열에 모았다가 뒤쪽에 채움
+    public static int partitionInPlace(int[] arr, IntPredicate keep) {
+        int n = arr.length;
+        int blocks = blockCount(n);
+        long[] kept = countKept(arr, keep, blocks);
+        long[] keptOffsets = kept.clone();
+        int totalKept = (int) exclusiveScanInPlace(keptOffsets);
+        int[] rejected = new int[n - totalKept];
+
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int start = blockStart(n, blocks, b);
+            int w = start;
+            int r = (int) (start - keptOffsets[b]);
+            for (int i = start, end = blockStart(n, blocks, b + 1); i < end; i++) {
+                int x = arr[i];
+                if (keep.test(x)) {
+                    arr[w++] = x;
+                } else {
+                    rejected[r++] = x;
+                }
+            }
+        });
+        gatherBlocks(arr, kept, keptOffsets, blocks);
+        System.arraycopy(rejected, 0, arr, totalKept, rejected.length);
+        return totalKept;
+    }
+
+    // 4. 압축 (제자리, 추가 메모리 없음): target이 아닌 원소를 순서대로 앞으로, 나머지는 target으로 채움
+    public static int compact(int[] arr, int target) {
+        int n = arr.length;
+        int blocks = blockCount(n);
+        IntPredicate keep = x -> x != target;
+        long[] kept = new long[blocks];
+
+        // 블록 안 압축과 개수 세기를 한 번에
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int start = blockStart(n, blocks, b);
+            int w = start;
+            for (int i = start, end = blockStart(n, blocks, b + 1); i < end; i++) {
+                int x = arr[i];
+                if (keep.test(x)) arr[w++] = x;
+            }
+            kept[b] = w - start;
+        });
+        long[] keptOffsets = kept.clone();
+        int totalKept = (int) exclusiveScanInPlace(keptOffsets);
+        gatherBlocks(arr, kept, keptOffsets, blocks);
+        Arrays.fill(arr, totalKept, n, target);
+        return totalKept;
+    }
+
+    // 블록 b의 앞쪽 kept[b]개를 offsets[b]로 옮김
+    // 목적지는 항상 원래 위치 이하이고 블록끼리 겹치지 않으므로, 블록 b가 덮어쓸 수 있는 것은 앞 블록의 아직 안 옮긴 원본뿐
+    // -> 목적지와 겹치는 앞 블록보다 한 단계 뒤로 단계를 매기고, 같은 단계의 블록들은 병렬로 옮김
+    //    (블록 수만큼의 단계 계산은 O(블록 수^2)이지만 블록 수가 코어 수 × 4 이하라 무시할 만함)
+    private static void gatherBlocks(int[] arr, long[] kept, long[] offsets, int blocks) {
+        int n = arr.length;
+        int[] level = new int[blocks];  // -1: 옮길 필요 없음
+        int maxLevel = -1;
+        level[0] = -1;
+        for (int b = 1; b < blocks; b++) {
+            int start = blockStart(n, blocks, b);
+            if (offsets[b] == start || kept[b] == 0) {
+                level[b] = -1;
+                continue;
+            }
+            long from = offsets[b], to = offsets[b] + kept[b];
+            int lv = 0;
+            for (int c = 1; c < b; c++) {
+                int source = blockStart(n, blocks, c);
+                if (level[c] >= 0 && source < to && source + kept[c] > from) lv = java.lang.Math.max(lv, level[c] + 1);
+            }
+            level[b] = lv;
+            maxLevel = java.lang.Math.max(maxLevel, lv);
+        }
+        for (int lv = 0; lv <= maxLevel; lv++) {
+            int current = lv;
+            IntStream.range(1, blocks).parallel().filter(b -> level[b] == current).forEach(b ->
+                System.arraycopy(arr, blockStart(n, blocks, b), arr, (int) offsets[b], (int) kept[b]));
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 병렬 누적합 / 안정 분할 테스트 =====\n");
+
+        long[] values = {1, 2, 3, 4, 5};
+        inclusiveScan(values);
+        System.out.println("1. 누적합: " + Arrays.toString(values));
+
+        int[] arr = {1, 2, 0, 3, 0, 4};
+        compact(arr, 0);
+        System.out.println("2. 0을 끝으로 압축: " + Arrays.toString(arr));
+
+        int[] src = {5, 2, 8, 1, 9, 4};
+        int[] dst = new int[src.length];
+        int evens = partition(src, dst, x -> x % 2 == 0);
+        System.out.println("3. 짝수 먼저 분할 (" + evens + "개): " + Arrays.toString(dst));
+    }
+}
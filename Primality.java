@@ -0,0 +1,157 @@
+import java.util.*;
+
+/**
+ * long 범위 결정적 소수 판별
+ * - 2^16 미만: 미리 만든 홀수 소수 비트셋에서 바로 찾음
+ * - 그 외: 작은 소수(3 ~ 53)로 나눠 보고 남으면 Miller-Rabin
+ *   n < 2^32는 밑 {2, 7, 61}, 그 이상은 2^64 미만에서 결정적인 밑 7개(Jim Sinclair)
+ * - 모듈러 곱은 몽고메리 곱셈: 128비트 곱의 상위 64비트를 multiplyHigh로 구해 나눗셈 없이 줄임
+ * - isPrime(long[]): 블록 단위 병렬 일괄 판별
+ * 시간 복잡도: O(밑 개수 × log n) 곱셈
+ */
+public class Primality {
+
+    static final int SMALL_LIMIT = 1 << 16;
+    private static final long[] SMALL = new long[SMALL_LIMIT >>> 7];  // 비트 n >>> 1 = 홀수 n이 소수
+    private static final int[] TRIAL = {3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53};
+    private static final long[] BASES_32 = {2, 7, 61};
+    private static final long[] BASES_64 = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+    static {
+        for (int p : PrimeSieve.primes(3, SMALL_LIMIT)) SMALL[p >>> 7] |= 1L << (p >>> 1);
+    }
+
+    // 1. 소수 판별 (음수, 0, 1은 false)
+    public static boolean isPrime(long n) {
+        if (n < SMALL_LIMIT) {
+            if (n < 2) return false;
+            if ((n & 1) == 0) return n == 2;
+            return (SMALL[(int) (n >>> 7)] & (1L << (n >>> 1))) != 0;
+        }
+        if ((n & 1) == 0) return false;
+        for (int p : TRIAL) {
+            if (n % p == 0) return false;
+        }
+        return millerRabin(n, n < 1L << 32 ? BASES_32 : BASES_64);
+    }
+
+    // 2. 병렬 일괄 판별
+    public static boolean[] isPrime(long[] values) {
+        boolean[] result = new boolean[values.length];
+        ParallelScan.parallelFor(values.length, (from, to) -> {
+            for (int i = from; i < to; i++) result[i] = isPrime(values[i]);
+        });
+        return result;
+    }
+
+    // 3. 몽고메리 형식 (R = 2^64)으로 Miller-Rabin (n은 2^16 이상의 홀수)
+    private static boolean millerRabin(long n, long[] bases) {
+        long inv = n;  // n × inv ≡ 1 (mod 2^64), 뉴턴법으로 맞는 비트 수를 두 배씩
+        for (int i = 0; i < 5; i++) inv *= 2 - n * inv;
+        long one = Long.remainderUnsigned(-n, n);  // R mod n
+        long minusOne = n - one;
+        long r2 = one;                              // R^2 mod n
+        for (int i = 0; i < 64; i++) {
+            r2 <<= 1;
+            if (r2 < 0 || r2 >= n) r2 -= n;
+        }
+        int s = Long.numberOfTrailingZeros(n - 1);
+        long d = (n - 1) >>> s;
+        nextBase:
+        for (long base : bases) {
+            long a = base % n;
+            if (a == 0) continue;
+            long x = power(montMul(a, r2, n, inv), d, one, n, inv);
+            if (x == one || x == minusOne) continue;
+            for (int r = 1; r < s; r++) {
+                x = montMul(x, x, n, inv);
+                if (x == minusOne) continue nextBase;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    // a × b × R^-1 mod n (a, b < n < 2^63)
+    // t = a × b를 (hi, lo)로 나누고 u = lo × n^-1 을 빼면 하위 64비트가 0이 되므로 상위만 남김
+    static long montMul(long a, long b, long n, long inv) {
+        long hi = java.lang.Math.multiplyHigh(a, b);
+        long u = a * b * inv;
+        long uHigh = java.lang.Math.multiplyHigh(u, n) + ((u >> 63) & n);  // u를 부호 없는 수로 본 상위 비트
+        long r = hi - uHigh;
+        return r < 0 ? r + n : r;
+    }
+
+    private static long power(long base, long exp, long one, long n, long inv) {
+        long result = one;
+        while (exp > 0) {
+            if ((exp & 1) == 1) result = montMul(result, base, n, inv);
+            base = montMul(base, base, n, inv);
+            exp >>>= 1;
+        }
+        return result;
+    }
+
+    // ==================== 테스트 코드 / 벤치마크 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 결정적 Miller-Rabin 테스트 =====\n");
+
+        System.out.println("1. 2^61 - 1 소수? " + isPrime((1L << 61) - 1));
+        System.out.println("2. 3215031751 (강한 유사 소수 2, 3, 5, 7) 소수? " + isPrime(3_215_031_751L));
+        System.out.println("3. Long.MAX_VALUE 아래 가장 큰 소수? " + isPrime(Long.MAX_VALUE - 24));
+        System.out.println();
+
+        int count = 200_000;
+        long[] values = new long[count];
+        Random random = new Random(1);
+        for (int i = 0; i < count; i++) values[i] = Integer.MAX_VALUE - random.nextInt(1 << 24);
+        long trial = bestOf(3, () -> {
+            int found = 0;
+            for (long v : values) if (trialDivision((int) v)) found++;
+            return found;
+        });
+        long mr = bestOf(3, () -> {
+            int found = 0;
+            for (long v : values) if (isPrime(v)) found++;
+            return found;
+        });
+        long batch = bestOf(3, () -> {
+            int found = 0;
+            for (boolean b : isPrime(values)) if (b) found++;
+            return found;
+        });
+        System.out.printf("4. 2^31 근처 %,d개: 기존 나눗셈 %d ms, Miller-Rabin %d ms, 병렬 일괄 %d ms%n",
+            count, trial / 1_000_000, mr / 1_000_000, batch / 1_000_000);
+
+        for (int i = 0; i < count; i++) values[i] = (1L << 62) + random.nextInt() * 2L + 1;
+        long big = bestOf(3, () -> {
+            int found = 0;
+            for (boolean b : isPrime(values)) if (b) found++;
+            return found;
+        });
+        System.out.printf("5. 2^62 근처 %,d개 병렬 일괄: %d ms%n", count, big / 1_000_000);
+    }
+
+    // 기존 Math.isPrime 구현 (비교용, i * i가 int 범위를 넘지 않도록 long으로 비교)
+    private static boolean trialDivision(int n) {
+        if (n < 2) return false;
+        if (n == 2) return true;
+        if (n % 2 == 0) return false;
+        for (int i = 3; (long) i * i <= n; i += 2) {
+            if (n % i == 0) return false;
+        }
+        return true;
+    }
+
+    private static long bestOf(int runs, java.util.function.IntSupplier action) {
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            sink += action.getAsInt();
+            best = java.lang.Math.min(best, System.nanoTime() - start);
+        }
+        if (sink < 0) System.out.println(sink);
+        return best;
+    }
+}
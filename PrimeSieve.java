@@ -0,0 +1,196 @@
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * 구간을 L1 캐시 크기 조각(세그먼트)으로 나눠 체질하는 에라토스테네스의 체
+ * - 홀수만 비트 하나씩 저장 (long[] 비트셋, 세그먼트 하나 = 32KB = 홀수 262144개 = 수 524288개)
+ * - 체질에 쓰는 기저 소수(√hi 이하 홀수 소수)는 같은 방식으로 재귀적으로 구함
+ * - 세그먼트끼리는 서로 독립이라 병렬 스트림(fork-join 공용 풀)으로 나눠 처리
+ * - 결과: 구간 소수 개수, long 스트림 / 반복자, int 범위 구간은 int[]
+ * 메모리: O(√hi + 스레드 수 × 32KB), 시간 복잡도: O((hi - lo) log log hi + √hi × 세그먼트 수)
+ */
+public class PrimeSieve {
+
+    static final int SEGMENT_WORDS = 1 << 12;
+    static final int SEGMENT_BITS = SEGMENT_WORDS * 64;
+    static final long SEGMENT_SPAN = 2L * SEGMENT_BITS;
+
+    // 기저 소수 곱 p * p와 배수 계산이 long 범위를 넘지 않도록 제한
+    public static final long MAX_LIMIT = 1L << 62;
+
+    private static final ThreadLocal<long[]> WORDS = ThreadLocal.withInitial(() -> new long[SEGMENT_WORDS]);
+
+    private static void checkRange(long lo, long hi) {
+        if (lo < 0 || lo > hi || hi > MAX_LIMIT) {
+            throw new IllegalArgumentException("잘못된 구간 [" + lo + ", " + hi + "), 0 <= lo <= hi <= 2^62");
+        }
+    }
+
+    // 1. [from, to) (from은 짝수)의 홀수를 체질해 words에 표시, 유효 비트 수를 반환
+    // 비트 i = 수 from + 2i + 1, 1이면 소수
+    static int sieveSegment(long from, long to, int[] basePrimes, long[] words) {
+        int bits = (int) ((to - from) / 2);
+        int wordCount = (bits + 63) >>> 6;
+        Arrays.fill(words, 0, wordCount, -1L);
+        if ((bits & 63) != 0) words[wordCount - 1] = -1L >>> (64 - (bits & 63));
+        for (int p : basePrimes) {
+            long square = (long) p * p;
+            if (square >= to) break;
+            long m = java.lang.Math.max(square, (from + p) / p * p);
+            if ((m & 1) == 0) m += p;
+            for (long i = (m - from - 1) >>> 1; i < bits; i += p) {
+                words[(int) (i >>> 6)] &= ~(1L << i);
+            }
+        }
+        if (from == 0 && bits > 0) words[0] &= ~1L;  // 1은 소수가 아님
+        return bits;
+    }
+
+    // √(hi - 1) 이하 홀수 소수
+    static int[] basePrimes(long hi) {
+        long limit = sqrtFloor(hi - 1);
+        return limit < 3 ? new int[0] : primes(3, limit + 1);
+    }
+
+    static long sqrtFloor(long n) {
+        if (n <= 0) return 0;
+        long r = (long) java.lang.Math.sqrt((double) n);
+        while (r * r > n) r--;
+        while ((r + 1) * (r + 1) <= n) r++;
+        return r;
+    }
+
+    private static long segmentCount(long base, long hi) {
+        return (hi - base + SEGMENT_SPAN - 1) / SEGMENT_SPAN;
+    }
+
+    // 2. [lo, hi) 구간의 소수 개수 (세그먼트 병렬)
+    public static long count(long lo, long hi) {
+        checkRange(lo, hi);
+        int[] base = basePrimes(hi);
+        long start = lo & ~1L;
+        long result = LongStream.range(0, segmentCount(start, hi)).parallel().map(s -> {
+            long from = start + s * SEGMENT_SPAN;
+            long[] words = WORDS.get();
+            int bits = sieveSegment(from, java.lang.Math.min(hi, from + SEGMENT_SPAN), base, words);
+            long c = 0;
+            for (int w = 0, end = (bits + 63) >>> 6; w < end; w++) c += Long.bitCount(words[w]);
+            return c;
+        }).sum();
+        return lo <= 2 && 2 < hi ? result + 1 : result;
+    }
+
+    public static long count(long n) {
+        return count(0, n + 1);
+    }
+
+    // 세그먼트 하나의 소수를 오름차순으로 (2는 제외)
+    private static long[] segmentPrimes(long from, long hi, int[] base) {
+        long[] words = WORDS.get();
+        int bits = sieveSegment(from, java.lang.Math.min(hi, from + SEGMENT_SPAN), base, words);
+        int wordCount = (bits + 63) >>> 6;
+        int c = 0;
+        for (int w = 0; w < wordCount; w++) c += Long.bitCount(words[w]);
+        long[] result = new long[c];
+        int k = 0;
+        for (int w = 0; w < wordCount; w++) {
+            for (long word = words[w]; word != 0; word &= word - 1) {
+                result[k++] = from + 2L * ((w << 6) + Long.numberOfTrailingZeros(word)) + 1;
+            }
+        }
+        return result;
+    }
+
+    // 3. [lo, hi) 구간의 소수 스트림 (순서 유지, .parallel()을 붙이면 세그먼트 단위로 병렬 체질)
+    public static LongStream stream(long lo, long hi) {
+        checkRange(lo, hi);
+        int[] base = basePrimes(hi);
+        long start = lo & ~1L;
+        LongStream odd = LongStream.range(0, segmentCount(start, hi))
+            .flatMap(s -> LongStream.of(segmentPrimes(start + s * SEGMENT_SPAN, hi, base)));
+        return lo <= 2 && 2 < hi ? LongStream.concat(LongStream.of(2), odd) : odd;
+    }
+
+    // 4. 세그먼트를 하나씩 체질하며 돌려주는 반복자 (메모리 O(√hi + 32KB))
+    public static PrimitiveIterator.OfLong iterator(long lo, long hi) {
+        checkRange(lo, hi);
+        int[] base = basePrimes(hi);
+        long start = lo & ~1L;
+        return new PrimitiveIterator.OfLong() {
+            final long[] words = new long[SEGMENT_WORDS];
+            boolean two = lo <= 2 && 2 < hi;
+            long from = start - SEGMENT_SPAN;  // 현재 세그먼트 시작
+            int wordCount, w;
+            long word;
+
+            @Override
+            public boolean hasNext() {
+                if (two) return true;
+                while (word == 0) {
+                    if (++w < wordCount) {
+                        word = words[w];
+                        continue;
+                    }
+                    from += SEGMENT_SPAN;
+                    if (from >= hi || from + 1 >= hi) return false;
+                    int bits = sieveSegment(from, java.lang.Math.min(hi, from + SEGMENT_SPAN), base, words);
+                    wordCount = (bits + 63) >>> 6;
+                    w = 0;
+                    word = wordCount > 0 ? words[0] : 0;
+                }
+                return true;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (two) {
+                    two = false;
+                    return 2;
+                }
+                long p = from + 2L * ((w << 6) + Long.numberOfTrailingZeros(word)) + 1;
+                word &= word - 1;
+                return p;
+            }
+        };
+    }
+
+    // 5. int 범위 구간의 소수 배열 (hi <= 2^31, 세그먼트별로 병렬 체질 후 이어 붙임)
+    public static int[] primes(long lo, long hi) {
+        checkRange(lo, hi);
+        if (hi > 1L << 31) {
+            throw new IllegalArgumentException("int 범위를 넘는 구간: hi = " + hi + " (stream / iterator 사용)");
+        }
+        int[] base = basePrimes(hi);
+        long start = lo & ~1L;
+        long[][] parts = LongStream.range(0, segmentCount(start, hi)).parallel()
+            .mapToObj(s -> segmentPrimes(start + s * SEGMENT_SPAN, hi, base))
+            .toArray(long[][]::new);
+        boolean two = lo <= 2 && 2 < hi;
+        int total = two ? 1 : 0;
+        for (long[] part : parts) total += part.length;
+        int[] result = new int[total];
+        int k = 0;
+        if (two) result[k++] = 2;
+        for (long[] part : parts) {
+            for (long p : part) result[k++] = (int) p;
+        }
+        return result;
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 세그먼트 체 테스트 =====\n");
+
+        System.out.println("1. 50 미만 소수: " + Arrays.toString(primes(0, 50)));
+
+        long begin = System.nanoTime();
+        long count = count(1_000_000_000L);
+        System.out.printf("2. 10^9 이하 소수 개수: %d (%d ms)%n", count, (System.nanoTime() - begin) / 1_000_000);
+
+        StringBuilder big = new StringBuilder();
+        PrimitiveIterator.OfLong it = iterator(100_000_000_000L, 100_000_000_200L);
+        while (it.hasNext()) big.append(it.nextLong()).append(' ');
+        System.out.println("3. 10^11 바로 위 소수: " + big);
+    }
+}
@@ -0,0 +1,518 @@
+import java.util.*;
+
+/**
+ * 압축 기수 트라이 (Patricia trie), 노드를 객체 대신 평평한 int 배열에 저장
+ * - 간선 라벨은 공유 char[] 풀의 (시작, 길이) 구간, 노드를 쪼갤 때 라벨은 복사하지 않음
+ * - 삭제 / 병합으로 버려진 풀 문자가 살아 있는 라벨 문자보다 많아지면 풀을 새로 모음 (분할 상환 O(1))
+ * - 자식은 첫 글자 순으로 정렬된 연결 리스트 (firstChild / nextSibling)
+ * - 삭제 후 자식 하나만 남은 중간 노드는 자식과 합쳐서 항상 압축된 형태를 유지
+ * 압축된 트라이에서는 루트가 아닌 중간 노드가 항상 자식 2개 이상이라
+ * 전체 키의 최장 공통 접두사 = 루트의 유일한 자식 간선 라벨 (O(1))
+ * freeze()는 자식을 연속 배열(CSR)로 재배치한 읽기 전용 Frozen을 만듦 (여러 스레드가 동시에 읽기 가능)
+ * RadixTrie 자체는 스레드 안전하지 않음
+ */
+public class RadixTrie {
+
+    private static final int NONE = -1;
+    private static final int ROOT = 0;
+
+    // 노드별 배열
+    private int[] labelStart = new int[16];
+    private int[] labelLength = new int[16];
+    private int[] firstChild = new int[16];
+    private int[] nextSibling = new int[16];
+    private int[] parent = new int[16];
+    private int[] childCount = new int[16];
+    private final BitSet terminal = new BitSet();
+    private int nodes;
+    private int freeList = NONE;   // 삭제된 노드 재사용 (nextSibling으로 연결)
+
+    private char[] pool = new char[64];
+    private int poolSize;
+    private int liveChars;         // 살아 있는 노드의 라벨 길이 합 (poolSize - liveChars = 버려진 문자)
+    private int size;
+
+    public RadixTrie() {
+        newNode(0, 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 사용 중인 노드 수 (루트 포함)
+    public int nodeCount() {
+        int free = 0;
+        for (int f = freeList; f != NONE; f = nextSibling[f]) free++;
+        return nodes - free;
+    }
+
+    // 라벨 풀에 쓰인 문자 수 (버려진 문자 포함)
+    int poolChars() {
+        return poolSize;
+    }
+
+    private int newNode(int start, int length) {
+        int node;
+        if (freeList != NONE) {
+            node = freeList;
+            freeList = nextSibling[node];
+        } else {
+            if (nodes == labelStart.length) grow();
+            node = nodes++;
+        }
+        labelStart[node] = start;
+        labelLength[node] = length;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        parent[node] = NONE;
+        childCount[node] = 0;
+        terminal.clear(node);
+        return node;
+    }
+
+    private void freeNode(int node) {
+        nextSibling[node] = freeList;
+        freeList = node;
+        terminal.clear(node);
+    }
+
+    private void grow() {
+        int capacity = labelStart.length * 2;
+        labelStart = Arrays.copyOf(labelStart, capacity);
+        labelLength = Arrays.copyOf(labelLength, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        childCount = Arrays.copyOf(childCount, capacity);
+    }
+
+    private int append(CharSequence s, int from, int to) {
+        int start = poolSize;
+        int needed = poolSize + (to - from);
+        if (needed > pool.length) pool = Arrays.copyOf(pool, java.lang.Math.max(needed, pool.length * 2));
+        for (int i = from; i < to; i++) pool[poolSize++] = s.charAt(i);
+        return start;
+    }
+
+    private char firstChar(int node) {
+        return pool[labelStart[node]];
+    }
+
+    private int findChild(int node, char c) {
+        for (int ch = firstChild[node]; ch != NONE; ch = nextSibling[ch]) {
+            char f = firstChar(ch);
+            if (f == c) return ch;
+            if (f > c) break;
+        }
+        return NONE;
+    }
+
+    // 첫 글자 순서를 유지하며 자식 추가
+    private void addChild(int node, int child) {
+        char c = firstChar(child);
+        int prev = NONE, cur = firstChild[node];
+        while (cur != NONE && firstChar(cur) < c) {
+            prev = cur;
+            cur = nextSibling[cur];
+        }
+        nextSibling[child] = cur;
+        if (prev == NONE) firstChild[node] = child;
+        else nextSibling[prev] = child;
+        parent[child] = node;
+        childCount[node]++;
+    }
+
+    private void removeChild(int node, int child) {
+        int prev = NONE, cur = firstChild[node];
+        while (cur != child) {
+            prev = cur;
+            cur = nextSibling[cur];
+        }
+        if (prev == NONE) firstChild[node] = nextSibling[child];
+        else nextSibling[prev] = nextSibling[child];
+        childCount[node]--;
+    }
+
+    // old 자리에 replacement를 넣음 (첫 글자가 같으므로 순서 유지)
+    private void replaceChild(int node, int old, int replacement) {
+        nextSibling[replacement] = nextSibling[old];
+        if (firstChild[node] == old) {
+            firstChild[node] = replacement;
+        } else {
+            int cur = firstChild[node];
+            while (nextSibling[cur] != old) cur = nextSibling[cur];
+            nextSibling[cur] = replacement;
+        }
+        parent[replacement] = node;
+    }
+
+    // 라벨과 key[i..]의 공통 길이
+    private int matchLabel(int node, CharSequence key, int i) {
+        int start = labelStart[node], len = java.lang.Math.min(labelLength[node], key.length() - i);
+        int k = 0;
+        while (k < len && pool[start + k] == key.charAt(i + k)) k++;
+        return k;
+    }
+
+    // 1. 삽입 (새로 추가되면 true)
+    public boolean insert(CharSequence key) {
+        int node = ROOT, i = 0, n = key.length();
+        while (i < n) {
+            int child = findChild(node, key.charAt(i));
+            if (child == NONE) {
+                int leaf = newNode(append(key, i, n), n - i);
+                liveChars += n - i;
+                addChild(node, leaf);
+                terminal.set(leaf);
+                size++;
+                return true;
+            }
+            int k = matchLabel(child, key, i);
+            if (k < labelLength[child]) {
+                // 간선을 k에서 쪼갬: node -> mid -> child (라벨은 같은 풀 구간을 나눠 씀)
+                int mid = newNode(labelStart[child], k);
+                replaceChild(node, child, mid);
+                labelStart[child] += k;
+                labelLength[child] -= k;
+                nextSibling[child] = NONE;
+                firstChild[mid] = NONE;
+                addChild(mid, child);
+                child = mid;
+            }
+            node = child;
+            i += k;
+        }
+        if (terminal.get(node)) return false;
+        terminal.set(node);
+        size++;
+        return true;
+    }
+
+    // key가 끝나는 노드 (간선 중간에서 끝나거나 없으면 NONE)
+    private int locate(CharSequence key) {
+        int node = ROOT, i = 0, n = key.length();
+        while (i < n) {
+            int child = findChild(node, key.charAt(i));
+            if (child == NONE) return NONE;
+            int k = matchLabel(child, key, i);
+            if (k < labelLength[child]) return NONE;
+            node = child;
+            i += k;
+        }
+        return node;
+    }
+
+    public boolean contains(CharSequence key) {
+        int node = locate(key);
+        return node != NONE && terminal.get(node);
+    }
+
+    // 2. 삭제 (있었으면 true), 필요하면 노드를 합쳐 압축 상태 유지
+    public boolean delete(CharSequence key) {
+        int node = locate(key);
+        if (node == NONE || !terminal.get(node)) return false;
+        terminal.clear(node);
+        size--;
+        if (node == ROOT) return true;
+        if (childCount[node] == 0) {
+            int p = parent[node];
+            removeChild(p, node);
+            liveChars -= labelLength[node];
+            freeNode(node);
+            if (p != ROOT && !terminal.get(p) && childCount[p] == 1) mergeWithChild(p);
+        } else if (childCount[node] == 1) {
+            mergeWithChild(node);
+        }
+        if (poolSize - liveChars > java.lang.Math.max(liveChars, 64)) compactPool();
+        return true;
+    }
+
+    // 살아 있는 라벨만 전위 순서로 새 풀에 모음 (부모 라벨 바로 뒤에 첫 자식이 와서 병합 때 복사 없이 넓힐 수 있음)
+    private void compactPool() {
+        char[] compact = new char[java.lang.Math.max(64, liveChars * 2)];
+        int pos = 0;
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = ROOT;
+        while (top > 0) {
+            int node = stack[--top];
+            System.arraycopy(pool, labelStart[node], compact, pos, labelLength[node]);
+            labelStart[node] = pos;
+            pos += labelLength[node];
+            int count = childCount[node];
+            if (top + count > stack.length) stack = Arrays.copyOf(stack, (top + count) * 2);
+            int k = top + count;
+            for (int ch = firstChild[node]; ch != NONE; ch = nextSibling[ch]) stack[--k] = ch;
+            top += count;
+        }
+        pool = compact;
+        poolSize = pos;
+    }
+
+    // node와 유일한 자식을 하나로 합침 (자식이 node 자리를 차지)
+    private void mergeWithChild(int node) {
+        int child = firstChild[node];
+        int len = labelLength[node] + labelLength[child];
+        int start;
+        if (labelStart[node] + labelLength[node] == labelStart[child]) {
+            // 풀에서 이미 이어져 있으면 복사 없이 넓힘
+            start = labelStart[node];
+        } else {
+            int needed = poolSize + len;
+            if (needed > pool.length) pool = Arrays.copyOf(pool, java.lang.Math.max(needed, pool.length * 2));
+            start = poolSize;
+            System.arraycopy(pool, labelStart[node], pool, poolSize, labelLength[node]);
+            System.arraycopy(pool, labelStart[child], pool, poolSize + labelLength[node], labelLength[child]);
+            poolSize += len;
+        }
+        int p = parent[node];
+        replaceChild(p, node, child);
+        labelStart[child] = start;
+        labelLength[child] = len;
+        freeNode(node);
+    }
+
+    // 3. 현재 키 전체의 최장 공통 접두사 (O(공통 접두사 길이), 탐색은 O(1))
+    public java.lang.String longestCommonPrefix() {
+        if (size == 0 || terminal.get(ROOT) || childCount[ROOT] != 1) return "";
+        int only = firstChild[ROOT];
+        return new java.lang.String(pool, labelStart[only], labelLength[only]);
+    }
+
+    // 4. query의 접두사 중 트라이에 있는 가장 긴 키의 길이 (없으면 -1)
+    public int longestPrefixOf(CharSequence query) {
+        int node = ROOT, i = 0, n = query.length();
+        int best = terminal.get(ROOT) ? 0 : -1;
+        while (i < n) {
+            int child = findChild(node, query.charAt(i));
+            if (child == NONE) break;
+            int k = matchLabel(child, query, i);
+            if (k < labelLength[child]) break;
+            node = child;
+            i += k;
+            if (terminal.get(node)) best = i;
+        }
+        return best;
+    }
+
+    // 5. prefix로 시작하는 키를 사전순으로 최대 limit개
+    public List<java.lang.String> keysWithPrefix(CharSequence prefix, int limit) {
+        List<java.lang.String> result = new ArrayList<>();
+        int node = ROOT, i = 0, n = prefix.length();
+        StringBuilder path = new StringBuilder();
+        while (i < n) {
+            int child = findChild(node, prefix.charAt(i));
+            if (child == NONE) return result;
+            int k = matchLabel(child, prefix, i);
+            // prefix가 간선 중간에서 끝나도 그 아래는 모두 해당
+            if (k < labelLength[child] && i + k < n) return result;
+            path.append(pool, labelStart[child], labelLength[child]);
+            node = child;
+            i += labelLength[child];
+        }
+        collect(node, path, limit, result);
+        return result;
+    }
+
+    // 전위 순회 (명시적 스택, 자식은 첫 글자 순이라 사전순)
+    private void collect(int start, StringBuilder path, int limit, List<java.lang.String> out) {
+        int[] stack = new int[16];
+        int[] depth = new int[16];
+        int top = 0;
+        stack[top] = start;
+        depth[top++] = path.length();
+        boolean first = true;
+        while (top > 0 && out.size() < limit) {
+            int node = stack[--top];
+            path.setLength(depth[top]);
+            if (!first) path.append(pool, labelStart[node], labelLength[node]);
+            first = false;
+            if (terminal.get(node)) out.add(path.toString());
+            // 역순으로 넣어야 작은 글자부터 꺼냄
+            int count = childCount[node];
+            if (top + count > stack.length) {
+                stack = Arrays.copyOf(stack, (top + count) * 2);
+                depth = Arrays.copyOf(depth, stack.length);
+            }
+            int k = top + count;
+            for (int ch = firstChild[node]; ch != NONE; ch = nextSibling[ch]) {
+                stack[--k] = ch;
+                depth[k] = path.length();
+            }
+            top += count;
+        }
+    }
+
+    // 6. 읽기 전용 형태로 변환: 자식을 BFS 순서로 연속 배치하고 라벨도 새 풀에 모음
+    public Frozen freeze() {
+        int live = nodeCount();
+        int[] order = new int[live];
+        int head = 0, tail = 0;
+        order[tail++] = ROOT;
+        while (head < tail) {
+            int node = order[head++];
+            for (int ch = firstChild[node]; ch != NONE; ch = nextSibling[ch]) order[tail++] = ch;
+        }
+        int[] childStart = new int[live + 1];
+        char[] childFirst = new char[live];
+        int[] fLabelStart = new int[live];
+        int[] fLabelLength = new int[live];
+        BitSet fTerminal = new BitSet(live);
+        char[] fPool = new char[liveChars];
+        int poolPos = 0, next = 1;
+        for (int f = 0; f < live; f++) {
+            int node = order[f];
+            fLabelStart[f] = poolPos;
+            fLabelLength[f] = labelLength[node];
+            System.arraycopy(pool, labelStart[node], fPool, poolPos, labelLength[node]);
+            poolPos += labelLength[node];
+            if (terminal.get(node)) fTerminal.set(f);
+            if (f > 0) childFirst[f] = firstChar(node);
+            // BFS라 자식들은 next부터 연속
+            childStart[f] = next;
+            next += childCount[node];
+        }
+        childStart[live] = next;
+        return new Frozen(childStart, childFirst, fLabelStart, fLabelLength, fTerminal, fPool, size);
+    }
+
+    // 불변 트라이: 자식 [childStart[v], childStart[v + 1])를 첫 글자로 이분 탐색
+    public static final class Frozen {
+        private final int[] childStart;
+        private final char[] childFirst;
+        private final int[] labelStart;
+        private final int[] labelLength;
+        private final BitSet terminal;
+        private final char[] pool;
+        private final int size;
+
+        private Frozen(int[] childStart, char[] childFirst, int[] labelStart, int[] labelLength,
+                       BitSet terminal, char[] pool, int size) {
+            this.childStart = childStart;
+            this.childFirst = childFirst;
+            this.labelStart = labelStart;
+            this.labelLength = labelLength;
+            this.terminal = terminal;
+            this.pool = pool;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private int findChild(int node, char c) {
+            int lo = childStart[node], hi = childStart[node + 1] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char f = childFirst[mid];
+                if (f == c) return mid;
+                if (f < c) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            return NONE;
+        }
+
+        private int matchLabel(int node, CharSequence key, int i) {
+            int start = labelStart[node], len = java.lang.Math.min(labelLength[node], key.length() - i);
+            int k = 0;
+            while (k < len && pool[start + k] == key.charAt(i + k)) k++;
+            return k;
+        }
+
+        public boolean contains(CharSequence key) {
+            int node = ROOT, i = 0, n = key.length();
+            while (i < n) {
+                int child = findChild(node, key.charAt(i));
+                if (child == NONE || matchLabel(child, key, i) < labelLength[child]) return false;
+                node = child;
+                i += labelLength[child];
+            }
+            return terminal.get(node);
+        }
+
+        public int longestPrefixOf(CharSequence query) {
+            int node = ROOT, i = 0, n = query.length();
+            int best = terminal.get(ROOT) ? 0 : -1;
+            while (i < n) {
+                int child = findChild(node, query.charAt(i));
+                if (child == NONE || matchLabel(child, query, i) < labelLength[child]) break;
+                node = child;
+                i += labelLength[child];
+                if (terminal.get(node)) best = i;
+            }
+            return best;
+        }
+
+        public java.lang.String longestCommonPrefix() {
+            if (size == 0 || terminal.get(ROOT) || childStart[1] - childStart[0] != 1) return "";
+            int only = childStart[0];
+            return new java.lang.String(pool, labelStart[only], labelLength[only]);
+        }
+
+        public List<java.lang.String> keysWithPrefix(CharSequence prefix, int limit) {
+            List<java.lang.String> result = new ArrayList<>();
+            int node = ROOT, i = 0, n = prefix.length();
+            StringBuilder path = new StringBuilder();
+            while (i < n) {
+                int child = findChild(node, prefix.charAt(i));
+                if (child == NONE) return result;
+                int k = matchLabel(child, prefix, i);
+                if (k < labelLength[child] && i + k < n) return result;
+                path.append(pool, labelStart[child], labelLength[child]);
+                node = child;
+                i += labelLength[child];
+            }
+            collect(node, path, limit, result);
+            return result;
+        }
+
+        // RadixTrie.collect와 같은 명시적 스택 전위 순회 (깊은 트라이에서도 호출 스택을 쓰지 않음)
+        private void collect(int start, StringBuilder path, int limit, List<java.lang.String> out) {
+            int[] stack = new int[16];
+            int[] depth = new int[16];
+            int top = 0;
+            stack[top] = start;
+            depth[top++] = path.length();
+            boolean first = true;
+            while (top > 0 && out.size() < limit) {
+                int node = stack[--top];
+                path.setLength(depth[top]);
+                if (!first) path.append(pool, labelStart[node], labelLength[node]);
+                first = false;
+                if (terminal.get(node)) out.add(path.toString());
+                // 자식은 연속 구간이라 뒤에서부터 넣으면 작은 글자부터 꺼냄
+                int from = childStart[node], to = childStart[node + 1];
+                if (top + (to - from) > stack.length) {
+                    stack = Arrays.copyOf(stack, (top + (to - from)) * 2);
+                    depth = Arrays.copyOf(depth, stack.length);
+                }
+                for (int ch = to - 1; ch >= from; ch--) {
+                    stack[top] = ch;
+                    depth[top++] = path.length();
+                }
+            }
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 압축 기수 트라이 테스트 =====\n");
+
+        RadixTrie trie = new RadixTrie();
+        for (java.lang.String word : new java.lang.String[]{"flower", "flow", "flight", "fleet"}) {
+            trie.insert(word);
+        }
+        System.out.println("1. 공통 접두사: " + trie.longestCommonPrefix() + ", 노드 수: " + trie.nodeCount());
+        System.out.println("2. 'flo'로 시작: " + trie.keysWithPrefix("flo", 10));
+        System.out.println("3. 'flowers'의 가장 긴 접두사 키 길이: " + trie.longestPrefixOf("flowers"));
+
+        trie.delete("fleet");
+        trie.delete("flight");
+        System.out.println("4. 삭제 후 공통 접두사: " + trie.longestCommonPrefix() + ", 노드 수: " + trie.nodeCount());
+
+        Frozen frozen = trie.freeze();
+        System.out.println("5. 읽기 전용 트라이에 'flow' 포함: " + frozen.contains("flow"));
+    }
+}
@@ -0,0 +1,301 @@
+import java.util.*;
+
+/**
+ * 같은 배열 스냅샷에 대한 반복 구간 질의용 자료구조 (구간은 모두 [from, to) 반개구간)
+ * - SparseTable: 최솟값/최댓값 O(1) 질의, 갱신 없음, 구축 O(n log n)
+ * - FenwickTree: 누적합 O(log n), 점 갱신 O(log n), 구축 O(n)
+ * - SegmentTree: 구간 더하기(lazy) + 구간 합/최솟값/최댓값 O(log n)
+ * 모두 평평한 primitive 배열에 저장하고, 구축은 병렬, 여러 질의는 배치 API로 한 번에 처리
+ */
+public class RangeQuery {
+
+    private static void checkRange(int from, int to, int n) {
+        if (from < 0 || to > n || from >= to) {
+            throw new IndexOutOfBoundsException("잘못된 구간 [" + from + ", " + to + "), n = " + n);
+        }
+    }
+
+    // 1. 희소 테이블 (멱등 연산인 min/max 전용)
+    // table[k * n + i] = arr[i, i + 2^k) 구간의 결과
+    public static class SparseTable {
+        private final int n;
+        private final int[] table;
+        private final boolean isMin;
+
+        private SparseTable(int[] arr, boolean isMin) {
+            this.n = arr.length;
+            this.isMin = isMin;
+            int levels = n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+            this.table = new int[levels * n];
+            System.arraycopy(arr, 0, table, 0, n);
+            for (int k = 1; k < levels; k++) {
+                int row = k * n, prev = (k - 1) * n, half = 1 << (k - 1);
+                int count = n - (1 << k) + 1;
+                ParallelScan.parallelFor(count, (from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        table[row + i] = pick(table[prev + i], table[prev + i + half]);
+                    }
+                });
+            }
+        }
+
+        public static SparseTable min(int[] arr) {
+            return new SparseTable(arr, true);
+        }
+
+        public static SparseTable max(int[] arr) {
+            return new SparseTable(arr, false);
+        }
+
+        private int pick(int a, int b) {
+            return isMin ? java.lang.Math.min(a, b) : java.lang.Math.max(a, b);
+        }
+
+        // 겹치는 두 구간 [from, from + 2^k), [to - 2^k, to)의 결과를 합침
+        public int query(int from, int to) {
+            checkRange(from, to, n);
+            int k = 31 - Integer.numberOfLeadingZeros(to - from);
+            return pick(table[k * n + from], table[k * n + to - (1 << k)]);
+        }
+
+        // 배치 질의: 같은 레벨의 질의끼리 모아 한 행(row) 안에서 처리 (캐시 미스 감소)
+        public void query(int[] froms, int[] tos, int[] out) {
+            int q = froms.length;
+            int levels = table.length / java.lang.Math.max(n, 1);
+            int[] start = new int[levels + 1];
+            for (int i = 0; i < q; i++) {
+                checkRange(froms[i], tos[i], n);
+                start[31 - Integer.numberOfLeadingZeros(tos[i] - froms[i]) + 1]++;
+            }
+            for (int k = 0; k < levels; k++) start[k + 1] += start[k];
+            int[] order = new int[q];
+            int[] fill = Arrays.copyOf(start, levels);
+            for (int i = 0; i < q; i++) {
+                order[fill[31 - Integer.numberOfLeadingZeros(tos[i] - froms[i])]++] = i;
+            }
+            ParallelScan.parallelFor(q, (from, to) -> {
+                for (int j = from; j < to; j++) {
+                    int i = order[j];
+                    int k = 31 - Integer.numberOfLeadingZeros(tos[i] - froms[i]);
+                    out[i] = pick(table[k * n + froms[i]], table[k * n + tos[i] - (1 << k)]);
+                }
+            });
+        }
+    }
+
+    // 2. 펜윅 트리 (Binary Indexed Tree), tree[i]는 (i - lowbit(i), i] 구간 합 (1-based)
+    public static class FenwickTree {
+        private final long[] tree;
+
+        public FenwickTree(int n) {
+            this.tree = new long[n + 1];
+        }
+
+        // 병렬 O(n) 구축: 누적합 P를 구한 뒤 tree[i] = P[i] - P[i - lowbit(i)]
+        public FenwickTree(int[] arr) {
+            int n = arr.length;
+            long[] prefix = new long[n + 1];
+            ParallelScan.parallelFor(n, (from, to) -> {
+                for (int i = from; i < to; i++) prefix[i + 1] = arr[i];
+            });
+            ParallelScan.inclusiveScan(prefix);
+            this.tree = new long[n + 1];
+            ParallelScan.parallelFor(n, (from, to) -> {
+                for (int i = from + 1; i <= to; i++) tree[i] = prefix[i] - prefix[i - (i & -i)];
+            });
+        }
+
+        public int size() {
+            return tree.length - 1;
+        }
+
+        // arr[index] += delta
+        public void add(int index, long delta) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index " + index + ", size " + size());
+            }
+            for (int i = index + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        // arr[0, to) 합
+        public long prefixSum(int to) {
+            if (to < 0 || to > size()) {
+                throw new IndexOutOfBoundsException("to " + to + ", size " + size());
+            }
+            long sum = 0;
+            for (int i = to; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        public long sum(int from, int to) {
+            checkRange(from, to, size());
+            return prefixSum(to) - prefixSum(from);
+        }
+
+        // 배치 구간 합 (갱신과 동시에 호출하지 말 것)
+        public void sum(int[] froms, int[] tos, long[] out) {
+            ParallelScan.parallelFor(froms.length, (from, to) -> {
+                for (int i = from; i < to; i++) out[i] = sum(froms[i], tos[i]);
+            });
+        }
+    }
+
+    // 3. lazy propagation 세그먼트 트리 (구간 더하기, 구간 합/최솟값/최댓값)
+    // 리프 수를 2의 거듭제곱 size로 맞추고 노드 i의 자식은 2i, 2i + 1
+    // lazy[i]는 i 자신에는 이미 반영됐고 자식에게 아직 전달되지 않은 더하기 값
+    public static class SegmentTree {
+        private final int n;
+        private final int size;
+        private final long[] sum, min, max, lazy;
+
+        public SegmentTree(int[] arr) {
+            this.n = arr.length;
+            int s = 1;
+            while (s < java.lang.Math.max(n, 1)) s <<= 1;
+            this.size = s;
+            sum = new long[2 * size];
+            min = new long[2 * size];
+            max = new long[2 * size];
+            lazy = new long[2 * size];
+
+            ParallelScan.parallelFor(size, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int leaf = size + i;
+                    if (i < n) {
+                        sum[leaf] = min[leaf] = max[leaf] = arr[i];
+                    } else {
+                        min[leaf] = Long.MAX_VALUE;
+                        max[leaf] = Long.MIN_VALUE;
+                    }
+                }
+            });
+            // 아래 레벨부터 한 레벨씩, 레벨 안의 노드는 병렬로 계산
+            for (int levelStart = size >>> 1; levelStart >= 1; levelStart >>>= 1) {
+                int base = levelStart;
+                ParallelScan.parallelFor(levelStart, (from, to) -> {
+                    for (int i = base + from; i < base + to; i++) pull(i);
+                });
+            }
+        }
+
+        private void pull(int i) {
+            sum[i] = sum[2 * i] + sum[2 * i + 1];
+            min[i] = java.lang.Math.min(min[2 * i], min[2 * i + 1]) + lazy[i];
+            max[i] = java.lang.Math.max(max[2 * i], max[2 * i + 1]) + lazy[i];
+            sum[i] += lazy[i] * (long) leafCount(i);
+        }
+
+        // 노드 i 아래의 실제 원소 수
+        private int leafCount(int i) {
+            int depth = 31 - Integer.numberOfLeadingZeros(i);
+            int width = size >>> depth;
+            int first = (i - (1 << depth)) * width;
+            return java.lang.Math.max(0, java.lang.Math.min(n, first + width) - first);
+        }
+
+        // arr[from, to)에 delta를 더함
+        public void add(int from, int to, long delta) {
+            checkRange(from, to, n);
+            add(1, 0, size, from, to, delta);
+        }
+
+        private void add(int node, int lo, int hi, int from, int to, long delta) {
+            if (from <= lo && hi <= to) {
+                sum[node] += delta * (hi - lo);
+                min[node] += delta;
+                max[node] += delta;
+                lazy[node] += delta;
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (from < mid) add(2 * node, lo, mid, from, to, delta);
+            if (to > mid) add(2 * node + 1, mid, hi, from, to, delta);
+            pull(node);
+        }
+
+        // 질의는 lazy를 내려보내지 않고 조상의 lazy를 누적해서 더함 -> 질의끼리는 동시에 실행 가능
+        public long sum(int from, int to) {
+            checkRange(from, to, n);
+            return sum(1, 0, size, from, to, 0);
+        }
+
+        private long sum(int node, int lo, int hi, int from, int to, long pending) {
+            if (from <= lo && hi <= to) {
+                return sum[node] + pending * (hi - lo);
+            }
+            int mid = (lo + hi) >>> 1;
+            long p = pending + lazy[node];
+            long result = 0;
+            if (from < mid) result += sum(2 * node, lo, mid, from, to, p);
+            if (to > mid) result += sum(2 * node + 1, mid, hi, from, to, p);
+            return result;
+        }
+
+        public long min(int from, int to) {
+            checkRange(from, to, n);
+            return extreme(1, 0, size, from, to, 0, true);
+        }
+
+        public long max(int from, int to) {
+            checkRange(from, to, n);
+            return extreme(1, 0, size, from, to, 0, false);
+        }
+
+        private long extreme(int node, int lo, int hi, int from, int to, long pending, boolean isMin) {
+            if (from <= lo && hi <= to) {
+                return (isMin ? min[node] : max[node]) + pending;
+            }
+            int mid = (lo + hi) >>> 1;
+            long p = pending + lazy[node];
+            long result = isMin ? Long.MAX_VALUE : Long.MIN_VALUE;
+            if (from < mid) result = extreme(2 * node, lo, mid, from, to, p, isMin);
+            if (to > mid) {
+                long right = extreme(2 * node + 1, mid, hi, from, to, p, isMin);
+                result = isMin ? java.lang.Math.min(result, right) : java.lang.Math.max(result, right);
+            }
+            return result;
+        }
+
+        // 배치 구간 합 (add와 동시에 호출하지 말 것)
+        public void sum(int[] froms, int[] tos, long[] out) {
+            ParallelScan.parallelFor(froms.length, (from, to) -> {
+                for (int i = from; i < to; i++) out[i] = sum(froms[i], tos[i]);
+            });
+        }
+
+        public void min(int[] froms, int[] tos, long[] out) {
+            ParallelScan.parallelFor(froms.length, (from, to) -> {
+                for (int i = from; i < to; i++) out[i] = min(froms[i], tos[i]);
+            });
+        }
+
+        public void max(int[] froms, int[] tos, long[] out) {
+            ParallelScan.parallelFor(froms.length, (from, to) -> {
+                for (int i = from; i < to; i++) out[i] = max(froms[i], tos[i]);
+            });
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 구간 질의 자료구조 테스트 =====\n");
+
+        int[] arr = {5, 2, 8, 1, 9, 3, 7};
+
+        SparseTable rmq = SparseTable.min(arr);
+        System.out.println("1. 희소 테이블 min[1, 5): " + rmq.query(1, 5));
+
+        FenwickTree fenwick = new FenwickTree(arr);
+        fenwick.add(3, 10);
+        System.out.println("2. 펜윅 트리 sum[0, 4) (arr[3] += 10 후): " + fenwick.sum(0, 4));
+
+        SegmentTree seg = new SegmentTree(arr);
+        seg.add(2, 5, 100);
+        System.out.println("3. 세그먼트 트리 [2, 5)에 100 더한 후 sum[0, 7): " + seg.sum(0, 7)
+            + ", max[0, 7): " + seg.max(0, 7));
+    }
+}
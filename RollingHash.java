@@ -0,0 +1,347 @@
+import java.io.*;
+import java.util.*;
+
+/**
+ * 다항식 롤링 해시 (mod 2^61 - 1)
+ * - Prefix: 문자열 / byte[]의 접두사 해시, 임의 부분 문자열 해시 O(1), 두 위치의 LCP O(log n)
+ * - search: 길이가 서로 다른 여러 패턴을 한 번에 찾는 Rabin-Karp (해시가 같으면 실제 문자 비교로 확인)
+ * - Window / Chunker: 고정 폭 창의 롤링 지문과 내용 기반 청크 분할 (content-defined chunking)
+ * 모듈러가 2^61 - 1 하나라서 두 부분 문자열이 우연히 충돌할 확률은 길이 / 2^61 정도
+ * 기본 진법(base)은 실행마다 무작위로 정해지므로, 지문을 저장해서 비교하려면 진법을 직접 지정
+ */
+public class RollingHash {
+
+    public static final long MOD = (1L << 61) - 1;
+    public static final long DEFAULT_BASE = 256 + new SplittableRandom().nextLong(MOD - 512);
+
+    // 1. a * b mod (2^61 - 1), a, b < MOD
+    // 122비트 곱을 상위 / 하위로 나눈 뒤 2^61 ≡ 1 을 이용해 접어서 나머지를 구함
+    static long mulMod(long a, long b) {
+        long hi = java.lang.Math.multiplyHigh(a, b);
+        long lo = a * b;
+        long folded = ((hi << 3) | (lo >>> 61)) + (lo & MOD);
+        return reduce(folded);
+    }
+
+    private static long reduce(long x) {
+        x = (x & MOD) + (x >>> 61);
+        return x >= MOD ? x - MOD : x;
+    }
+
+    private static long addMod(long a, long b) {
+        long s = a + b;
+        return s >= MOD ? s - MOD : s;
+    }
+
+    private static long subMod(long a, long b) {
+        long s = a - b;
+        return s < 0 ? s + MOD : s;
+    }
+
+    private static long[] powers(long base, int n) {
+        long[] pow = new long[n + 1];
+        pow[0] = 1;
+        for (int i = 1; i <= n; i++) pow[i] = mulMod(pow[i - 1], base);
+        return pow;
+    }
+
+    // 2. 접두사 해시: prefix[i] = s[0..i)의 해시
+    public static final class Prefix {
+        private final long base;
+        private final long[] prefix;
+        private final long[] pow;
+        private final int[] values;
+
+        private Prefix(int[] values, long base) {
+            checkBase(base);
+            this.base = base;
+            this.values = values;
+            int n = values.length;
+            this.prefix = new long[n + 1];
+            // 0이 되는 문자가 없도록 +1 (그래야 "a"와 "\0a"의 해시가 다름)
+            for (int i = 0; i < n; i++) prefix[i + 1] = addMod(mulMod(prefix[i], base), values[i] + 1);
+            this.pow = powers(base, n);
+        }
+
+        public static Prefix of(CharSequence s) {
+            return of(s, DEFAULT_BASE);
+        }
+
+        public static Prefix of(CharSequence s, long base) {
+            int[] values = new int[s.length()];
+            for (int i = 0; i < values.length; i++) values[i] = s.charAt(i);
+            return new Prefix(values, base);
+        }
+
+        public static Prefix of(byte[] bytes) {
+            return of(bytes, DEFAULT_BASE);
+        }
+
+        // 바이트는 0 ~ 255 값으로 취급
+        public static Prefix of(byte[] bytes, long base) {
+            int[] values = new int[bytes.length];
+            for (int i = 0; i < values.length; i++) values[i] = bytes[i] & 0xFF;
+            return new Prefix(values, base);
+        }
+
+        public int length() {
+            return values.length;
+        }
+
+        public long base() {
+            return base;
+        }
+
+        // [from, to)의 해시 = prefix[to] - prefix[from] * base^(to - from)
+        public long hash(int from, int to) {
+            if (from < 0 || to > values.length || from > to) {
+                throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + values.length);
+            }
+            return subMod(prefix[to], mulMod(prefix[from], pow[to - from]));
+        }
+
+        // 위치 i, j에서 시작하는 길이 len 부분 문자열이 같은지 (해시 비교)
+        public boolean equals(int i, int j, int len) {
+            return hash(i, i + len) == hash(j, j + len);
+        }
+
+        // 3. 위치 i, j에서 시작하는 두 접미사의 최장 공통 접두사 길이 (이분 탐색)
+        public int lcp(int i, int j) {
+            return lcp(i, this, j);
+        }
+
+        // 다른 문자열과의 LCP (같은 진법이어야 함)
+        public int lcp(int i, Prefix other, int j) {
+            if (other.base != base) {
+                throw new IllegalArgumentException("진법이 다른 해시는 비교할 수 없음");
+            }
+            int lo = 0, hi = java.lang.Math.min(values.length - i, other.values.length - j);
+            if (hi < 0) throw new IndexOutOfBoundsException("i = " + i + ", j = " + j);
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (hash(i, i + mid) == other.hash(j, j + mid)) lo = mid;
+                else hi = mid - 1;
+            }
+            return lo;
+        }
+
+        // 해시가 같을 때 실제 값으로 확인
+        private boolean sameValues(int i, int[] pattern) {
+            for (int k = 0; k < pattern.length; k++) {
+                if (values[i + k] != pattern[k]) return false;
+            }
+            return true;
+        }
+    }
+
+    private static void checkBase(long base) {
+        if (base < 2 || base >= MOD) {
+            throw new IllegalArgumentException("base는 2 이상 2^61 - 1 미만: " + base);
+        }
+    }
+
+    // 매칭마다 호출, false를 반환하면 중단
+    @FunctionalInterface
+    public interface MatchHandler {
+        boolean onMatch(int patternId, int start);
+    }
+
+    // 4. Rabin-Karp 다중 패턴 검색: 패턴 길이별로 해시를 정렬해 두고 텍스트의 같은 길이 창마다 이분 탐색
+    // 시간 O(n * 서로 다른 길이 수 * log 패턴 수 + 확인 비용)
+    public static void search(CharSequence text, List<? extends CharSequence> patterns, MatchHandler handler) {
+        Prefix t = Prefix.of(text);
+        int[] order = new int[patterns.size()];
+        long[] keys = new long[patterns.size()];
+        int[][] values = new int[patterns.size()][];
+        for (int p = 0; p < patterns.size(); p++) {
+            CharSequence pattern = patterns.get(p);
+            if (pattern.length() == 0) {
+                throw new IllegalArgumentException("빈 패턴: " + p);
+            }
+            Prefix ph = Prefix.of(pattern, t.base);
+            values[p] = ph.values;
+            keys[p] = ph.hash(0, pattern.length());
+        }
+        // (길이, 해시) 순으로 정렬
+        Integer[] sorted = new Integer[order.length];
+        for (int p = 0; p < sorted.length; p++) sorted[p] = p;
+        Arrays.sort(sorted, (a, b) -> values[a].length != values[b].length
+            ? Integer.compare(values[a].length, values[b].length) : Long.compare(keys[a], keys[b]));
+        long[] sortedKeys = new long[order.length];
+        for (int k = 0; k < sorted.length; k++) {
+            order[k] = sorted[k];
+            sortedKeys[k] = keys[order[k]];
+        }
+
+        // 같은 길이 패턴 그룹의 경계
+        int[] groups = new int[order.length + 1];
+        int groupCount = 0;
+        for (int k = 0; k < order.length; k++) {
+            if (k == 0 || values[order[k]].length != values[order[k - 1]].length) groups[groupCount++] = k;
+        }
+        groups[groupCount] = order.length;
+
+        // 위치 순서대로 보고하기 위해 위치마다 모든 길이 그룹을 확인
+        int n = text.length();
+        for (int i = 0; i < n; i++) {
+            for (int g = 0; g < groupCount; g++) {
+                int from = groups[g], to = groups[g + 1];
+                int len = values[order[from]].length;
+                if (i + len > n) break;  // 길이 오름차순이라 뒤 그룹도 넘침
+                long h = t.hash(i, i + len);
+                int k = Arrays.binarySearch(sortedKeys, from, to, h);
+                if (k < 0) continue;
+                // 같은 해시가 여러 개일 수 있으므로 앞뒤로 모두 확인
+                while (k > from && sortedKeys[k - 1] == h) k--;
+                for (; k < to && sortedKeys[k] == h; k++) {
+                    int p = order[k];
+                    if (t.sameValues(i, values[p]) && !handler.onMatch(p, i)) return;
+                }
+            }
+        }
+    }
+
+    // 5. 고정 폭 창의 롤링 지문: 새 바이트를 넣고 창 밖으로 나간 바이트를 빼서 O(1)로 갱신
+    public static final class Window {
+        private final long base;
+        private final long outFactor;  // base^width (나가는 바이트의 가중치)
+        private final byte[] ring;
+        private int head;
+        private long hash;
+        private long filled;
+
+        public Window(int width, long base) {
+            if (width <= 0) {
+                throw new IllegalArgumentException("width <= 0: " + width);
+            }
+            checkBase(base);
+            this.base = base;
+            this.ring = new byte[width];
+            this.outFactor = powers(base, width)[width];
+        }
+
+        public long roll(byte in) {
+            byte out = ring[head];
+            ring[head] = in;
+            head = head + 1 == ring.length ? 0 : head + 1;
+            hash = addMod(mulMod(hash, base), (in & 0xFF) + 1);
+            if (filled >= ring.length) hash = subMod(hash, mulMod(outFactor, (out & 0xFF) + 1));
+            filled++;
+            return hash;
+        }
+
+        public long fingerprint() {
+            return hash;
+        }
+
+        public void reset() {
+            Arrays.fill(ring, (byte) 0);
+            head = 0;
+            hash = 0;
+            filled = 0;
+        }
+    }
+
+    // 6. 내용 기반 청크 경계: 창 지문의 하위 비트가 모두 0인 곳에서 자름 (평균 크기 2^maskBits)
+    // 앞쪽에 바이트가 삽입되어도 뒤쪽 경계는 내용을 따라 그대로 유지되어 중복 제거에 유리
+    public static final class Chunker implements PrimitiveIterator.OfLong {
+        static final int WINDOW = 48;
+        // 실행마다 달라지면 같은 파일의 청크가 달라지므로 고정된 진법을 사용
+        static final long CHUNK_BASE = 0x1F3D5B79A3C5E7L;
+
+        private final InputStream in;
+        private final Window window = new Window(WINDOW, CHUNK_BASE);
+        private final long mask;
+        private final int minSize, maxSize;
+        private final byte[] buffer = new byte[1 << 16];
+        private int bufferPos, bufferLimit;
+        private long offset;       // 지금까지 읽은 바이트 수
+        private long chunkStart;
+        private long next = -1;    // 다음 경계 (-1이면 아직 계산 전)
+        private boolean eof;
+
+        public Chunker(InputStream in, int maskBits, int minSize, int maxSize) {
+            if (maskBits < 1 || maskBits > 30 || minSize < 0 || maxSize < java.lang.Math.max(1, minSize)) {
+                throw new IllegalArgumentException("잘못된 청크 설정: " + maskBits + ", " + minSize + ", " + maxSize);
+            }
+            this.in = in;
+            this.mask = (1L << maskBits) - 1;
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+        }
+
+        // 다음 청크의 끝 위치 (스트림 기준 배타적 오프셋)
+        private long advance() throws IOException {
+            while (true) {
+                if (bufferPos == bufferLimit) {
+                    int n = in.read(buffer);
+                    if (n < 0) {
+                        eof = true;
+                        // 마지막 조각
+                        if (offset > chunkStart) {
+                            chunkStart = offset;
+                            return offset;
+                        }
+                        return -1;
+                    }
+                    bufferPos = 0;
+                    bufferLimit = n;
+                }
+                long fp = window.roll(buffer[bufferPos++]);
+                offset++;
+                long size = offset - chunkStart;
+                if ((size >= minSize && (fp & mask) == 0) || size >= maxSize) {
+                    chunkStart = offset;
+                    window.reset();
+                    return offset;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < 0 && !eof) {
+                try {
+                    next = advance();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return next >= 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+            long result = next;
+            next = -1;
+            return result;
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 롤링 해시 테스트 =====\n");
+
+        Prefix h = Prefix.of("abcabcabd");
+        System.out.println("1. [0, 3)과 [3, 6) 해시가 같은지: " + (h.hash(0, 3) == h.hash(3, 6)));
+        System.out.println("2. 위치 0, 3의 LCP: " + h.lcp(0, 3));
+
+        List<java.lang.String> found = new ArrayList<>();
+        search("she sells sea shells", Arrays.asList("she", "sea", "ells"), (id, start) -> {
+            found.add(id + "@" + start);
+            return true;
+        });
+        System.out.println("3. 다중 길이 Rabin-Karp: " + found);
+
+        byte[] data = new byte[1 << 20];
+        new Random(7).nextBytes(data);
+        Chunker chunker = new Chunker(new ByteArrayInputStream(data), 13, 2048, 65536);
+        int chunks = 0;
+        while (chunker.hasNext()) {
+            chunker.nextLong();
+            chunks++;
+        }
+        System.out.println("4. 1MB 내용 기반 청크 수 (평균 8KB 목표): " + chunks);
+    }
+}
@@ -0,0 +1,202 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 배열 회전 엔진
+ * - 양수 shift는 오른쪽, 음수 shift는 왼쪽 회전, 부분 구간 [from, to)만 회전 가능
+ * - 순차: 블록 교환(Gries-Mills)으로 문제를 줄이다가, 짧은 쪽이 스크래치 버퍼(16KB)에
+ *   들어가면 버퍼 + System.arraycopy로 마무리 -> 모든 접근이 순차적, 추가 메모리 O(1)
+ * - 병렬: 3번 뒤집기의 각 뒤집기를 여러 스레드가 나눠서 처리
+ * 시간 복잡도: O(n)
+ */
+public class Rotation {
+
+    // 짧은 쪽이 이 크기 이하이면 버퍼로 한 번에 옮김 (int 4096개 = 16KB, L1 캐시 크기 수준)
+    static final int SCRATCH_SIZE = 4096;
+    // 병렬 뒤집기에서 한 작업이 맡는 교환 횟수
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    // 1. 오른쪽 회전 (음수면 왼쪽)
+    public static void rotateRight(int[] arr, long shift) {
+        rotate(arr, 0, arr.length, shift);
+    }
+
+    // 2. 왼쪽 회전 (음수면 오른쪽)
+    public static void rotateLeft(int[] arr, long shift) {
+        rotate(arr, 0, arr.length, -shift);
+    }
+
+    // 3. [from, to) 구간을 오른쪽으로 shift칸 회전 (음수면 왼쪽)
+    public static void rotate(int[] arr, int from, int to, long shift) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int n = to - from;
+        if (n <= 1) return;
+        int left = leftShift(n, shift);
+        if (left == 0) return;
+
+        int[] scratch = new int[java.lang.Math.min(SCRATCH_SIZE, java.lang.Math.min(left, n - left))];
+        blockSwapRotate(arr, from, to, left, scratch);
+    }
+
+    // 오른쪽 shift를 [0, n) 범위의 왼쪽 회전 칸 수로 변환
+    private static int leftShift(int n, long shift) {
+        return (int) java.lang.Math.floorMod(-shift, (long) n);
+    }
+
+    // [lo, hi)를 왼쪽으로 d칸 회전 (A = 앞 d개, B = 나머지, 결과 B A)
+    private static void blockSwapRotate(int[] arr, int lo, int hi, int d, int[] scratch) {
+        while (true) {
+            int n = hi - lo;
+            if (d == 0 || d == n) return;
+            int rest = n - d;
+            if (java.lang.Math.min(d, rest) <= scratch.length) {
+                bufferRotate(arr, lo, hi, d, scratch);
+                return;
+            }
+            if (d <= rest) {
+                // A B1 B2 (|B1| = |A|) -> B1 A B2, B1은 제자리, 남은 A B2를 계속 회전
+                swapBlocks(arr, lo, lo + d, d);
+                lo += d;
+            } else {
+                // A1 A2 B (|A2| = |B|) -> A1 B A2, A2는 제자리, 남은 A1 B를 계속 회전
+                swapBlocks(arr, lo + d - rest, lo + d, rest);
+                hi -= rest;
+                d -= rest;
+            }
+        }
+    }
+
+    private static void swapBlocks(int[] arr, int a, int b, int len) {
+        for (int i = 0; i < len; i++) {
+            int temp = arr[a + i];
+            arr[a + i] = arr[b + i];
+            arr[b + i] = temp;
+        }
+    }
+
+    // 짧은 쪽을 버퍼로 빼고, 긴 쪽을 arraycopy로 밀고, 버퍼를 되돌려 놓음
+    private static void bufferRotate(int[] arr, int lo, int hi, int d, int[] scratch) {
+        int rest = hi - lo - d;
+        if (d <= rest) {
+            System.arraycopy(arr, lo, scratch, 0, d);
+            System.arraycopy(arr, lo + d, arr, lo, rest);
+            System.arraycopy(scratch, 0, arr, lo + rest, d);
+        } else {
+            System.arraycopy(arr, lo + d, scratch, 0, rest);
+            System.arraycopy(arr, lo, arr, lo + rest, d);
+            System.arraycopy(scratch, 0, arr, lo, rest);
+        }
+    }
+
+    // 4. 병렬 회전: 앞/뒤 부분을 각각 뒤집고 전체를 뒤집음, 각 뒤집기는 fork-join으로 분할
+    public static void rotateParallel(int[] arr, int from, int to, long shift) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        int n = to - from;
+        if (n <= 1) return;
+        int left = leftShift(n, shift);
+        if (left == 0) return;
+        if (n <= 2 * PARALLEL_THRESHOLD) {
+            rotate(arr, from, to, shift);
+            return;
+        }
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        pool.invoke(new ReverseTask(arr, from, from + left, 0, left / 2));
+        pool.invoke(new ReverseTask(arr, from + left, to, 0, (n - left) / 2));
+        pool.invoke(new ReverseTask(arr, from, to, 0, n / 2));
+    }
+
+    public static void rotateParallel(int[] arr, long shift) {
+        rotateParallel(arr, 0, arr.length, shift);
+    }
+
+    // [lo, hi) 뒤집기 중 교환 번호 [first, last)를 맡음 (교환 i: lo + i <-> hi - 1 - i)
+    private static class ReverseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] arr;
+        private final int lo, hi, first, last;
+
+        ReverseTask(int[] arr, int lo, int hi, int first, int last) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (last - first <= PARALLEL_THRESHOLD) {
+                for (int i = first; i < last; i++) {
+                    int a = lo + i, b = hi - 1 - i;
+                    int temp = arr[a];
+                    arr[a] = arr[b];
+                    arr[b] = temp;
+                }
+                return;
+            }
+            int mid = (first + last) >>> 1;
+            invokeAll(new ReverseTask(arr, lo, hi, first, mid), new ReverseTask(arr, lo, hi, mid, last));
+        }
+    }
+
+    // 비교 기준: 기존 3번 뒤집기 방식
+    static void rotateByReversal(int[] arr, int k) {
+        int n = arr.length;
+        if (n == 0) return;
+        k = k % n;
+        reverseRange(arr, 0, n - 1);
+        reverseRange(arr, 0, k - 1);
+        reverseRange(arr, k, n - 1);
+    }
+
+    private static void reverseRange(int[] arr, int start, int end) {
+        while (start < end) {
+            int temp = arr[start];
+            arr[start++] = arr[end];
+            arr[end--] = temp;
+        }
+    }
+
+    // ==================== 테스트 코드 / 벤치마크 ====================
+    // 인자로 배열 크기를 줄 수 있음 (예: 1000000000, 이 경우 -Xmx6g 이상 필요)
+    // 같은 패키지의 String 클래스와 구분하려고 java.lang.String[]을 씀
+    public static void main(java.lang.String[] args) {
+        System.out.println("===== 배열 회전 테스트 =====\n");
+
+        int[] arr = {1, 2, 3, 4, 5, 6, 7};
+        rotateRight(arr, 2);
+        System.out.println("오른쪽 2칸: " + Arrays.toString(arr));
+        rotateRight(arr, -2);
+        System.out.println("왼쪽 2칸 (원복): " + Arrays.toString(arr));
+        rotate(arr, 1, 5, 1);
+        System.out.println("[1, 5) 구간 오른쪽 1칸: " + Arrays.toString(arr));
+        System.out.println();
+
+        long[] sizes = {1_000_000L, 10_000_000L, 100_000_000L};
+        if (args.length > 0) {
+            sizes = new long[args.length];
+            for (int i = 0; i < args.length; i++) sizes[i] = Long.parseLong(args[i]);
+        }
+        for (long size : sizes) {
+            int[] data = new int[(int) size];
+            for (int i = 0; i < data.length; i++) data[i] = i;
+            int k = data.length / 3 + 1;
+
+            long reversal = bestOf(3, () -> rotateByReversal(data, k));
+            long blockSwap = bestOf(3, () -> rotateRight(data, k));
+            long parallel = bestOf(3, () -> rotateParallel(data, k));
+            System.out.printf("n=%,d  3번 뒤집기: %d ms, 블록 교환: %d ms, 병렬: %d ms%n",
+                size, reversal / 1_000_000, blockSwap / 1_000_000, parallel / 1_000_000);
+        }
+    }
+
+    private static long bestOf(int runs, Runnable action) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            action.run();
+            best = java.lang.Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,319 @@
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * "개수 + 문자" 형식의 런 길이 부호화 (예: "2a3b1c" <-> "aabbbc")
+ * - Runs: 펼치지 않은 채로 보관하는 CharSequence 뷰 (메모리 O(런 수))
+ *   charAt은 런 길이 누적합에 대한 이분 탐색으로 O(log 런 수)
+ * - reader / writeTo: 런 단위로 Arrays.fill 해서 내보냄 (버퍼 하나만 사용)
+ * - decode / compress(Reader, Writer): 입력 전체를 올리지 않는 스트리밍 변환
+ * 개수 없이 나온 문자는 무시 (String.decompressString과 같은 규칙),
+ * 숫자 문자는 개수와 구분할 수 없으므로 압축할 수 없음
+ */
+public class RunLength {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // 1. 압축 해제 결과를 펼치지 않고 런 단위로 보관
+    public static final class Runs implements CharSequence {
+        private final char[] chars;
+        private final long[] ends;   // ends[k] = 0 ~ k번째 런까지의 총 길이
+        private final int from, to;  // 이 뷰가 쓰는 런 [from, to)
+        private final long offset;   // 첫 런에서 앞쪽을 잘라낸 길이 (subSequence용)
+        private final long length;
+
+        private Runs(char[] chars, long[] ends, int from, int to, long offset, long length) {
+            this.chars = chars;
+            this.ends = ends;
+            this.from = from;
+            this.to = to;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public long longLength() {
+            return length;
+        }
+
+        @Override
+        public int length() {
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("int 범위를 넘는 길이: " + length + " (longLength 사용)");
+            }
+            return (int) length;
+        }
+
+        public int runCount() {
+            return to - from;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return charAt((long) index);
+        }
+
+        public char charAt(long index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            }
+            return chars[runOf(index)];
+        }
+
+        // 뷰 기준 위치 index를 포함하는 런 번호
+        private int runOf(long index) {
+            long target = start() + index;
+            int lo = from, hi = to - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ends[mid] <= target) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        // 원본 전체 기준 이 뷰의 시작 위치
+        private long start() {
+            return (from == 0 ? 0 : ends[from - 1]) + offset;
+        }
+
+        @Override
+        public Runs subSequence(int start, int end) {
+            return subSequence((long) start, (long) end);
+        }
+
+        public Runs subSequence(long start, long end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("[" + start + ", " + end + "), length " + length);
+            }
+            if (start == end) return new Runs(chars, ends, from, from, 0, 0);
+            int first = runOf(start), last = runOf(end - 1);
+            long cut = start() + start - (first == 0 ? 0 : ends[first - 1]);
+            return new Runs(chars, ends, first, last + 1, cut, end - start);
+        }
+
+        // 런마다 (문자, 길이)를 뷰 범위로 잘라서 전달
+        private interface RunConsumer {
+            void accept(char c, long count) throws IOException;
+        }
+
+        private void forEachRun(RunConsumer action) throws IOException {
+            long base = start(), limit = base + length;
+            for (int k = from; k < to; k++) {
+                long runStart = java.lang.Math.max(k == 0 ? 0 : ends[k - 1], base);
+                long runEnd = java.lang.Math.min(ends[k], limit);
+                if (runEnd > runStart) action.accept(chars[k], runEnd - runStart);
+            }
+        }
+
+        // 2. 런 하나를 버퍼 크기 조각으로 채워 쓰기
+        public void writeTo(Writer out) throws IOException {
+            char[] buffer = new char[BUFFER_SIZE];
+            forEachRun((c, count) -> {
+                Arrays.fill(buffer, 0, (int) java.lang.Math.min(count, BUFFER_SIZE), c);
+                for (long left = count; left > 0; left -= BUFFER_SIZE) {
+                    out.write(buffer, 0, (int) java.lang.Math.min(left, BUFFER_SIZE));
+                }
+            });
+        }
+
+        // 공간이 모자라면 BufferOverflowException
+        public void writeTo(CharBuffer out) {
+            if (out.remaining() < length) throw new BufferOverflowException();
+            try {
+                forEachRun((c, count) -> {
+                    int n = (int) count;
+                    if (out.hasArray()) {
+                        int at = out.arrayOffset() + out.position();
+                        Arrays.fill(out.array(), at, at + n, c);
+                        out.position(out.position() + n);
+                    } else {
+                        for (int i = 0; i < n; i++) out.put(c);
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 3. 필요한 만큼만 펼쳐 읽는 Reader
+        public Reader reader() {
+            return new Reader() {
+                int run = from;
+                long left = to > from ? ends[from] - start() : 0;  // 현재 런에서 남은 길이
+                long remaining = length;
+
+                @Override
+                public int read(char[] buf, int off, int len) {
+                    if (remaining == 0) return -1;
+                    int written = 0;
+                    while (written < len && remaining > 0) {
+                        if (left == 0) {
+                            run++;
+                            left = ends[run] - ends[run - 1];
+                        }
+                        int n = (int) java.lang.Math.min(java.lang.Math.min(left, remaining), len - written);
+                        Arrays.fill(buf, off + written, off + written + n, chars[run]);
+                        written += n;
+                        left -= n;
+                        remaining -= n;
+                    }
+                    return written;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @Override
+        public java.lang.String toString() {
+            char[] result = new char[length()];
+            writeTo(CharBuffer.wrap(result));
+            return new java.lang.String(result);
+        }
+    }
+
+    // 4. "2a3b1c" 형식 파싱 (펼치지 않음, 개수 0인 런은 버림)
+    public static Runs parse(CharSequence encoded) {
+        char[] chars = new char[8];
+        long[] ends = new long[8];
+        int runs = 0;
+        long total = 0;
+        int i = 0, n = encoded.length();
+        while (i < n) {
+            if (!Character.isDigit(encoded.charAt(i))) {
+                i++;
+                continue;
+            }
+            long count = 0;
+            while (i < n && Character.isDigit(encoded.charAt(i))) {
+                count = addDigit(count, encoded.charAt(i++));
+            }
+            if (i == n) {
+                throw new IllegalArgumentException("개수 뒤에 문자가 없음: 위치 " + i);
+            }
+            char c = encoded.charAt(i++);
+            if (count == 0) continue;
+            if (runs == chars.length) {
+                chars = Arrays.copyOf(chars, runs * 2);
+                ends = Arrays.copyOf(ends, runs * 2);
+            }
+            total = java.lang.Math.addExact(total, count);
+            chars[runs] = c;
+            ends[runs++] = total;
+        }
+        return new Runs(Arrays.copyOf(chars, runs), Arrays.copyOf(ends, runs), 0, runs, 0, total);
+    }
+
+    private static long addDigit(long count, char digit) {
+        return java.lang.Math.addExact(java.lang.Math.multiplyExact(count, 10), Character.digit(digit, 10));
+    }
+
+    // 5. 스트리밍 압축 해제: 런 하나씩 읽어 바로 내보냄 (메모리 O(버퍼))
+    public static long decode(Reader in, Writer out) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        long written = 0;
+        long count = 0;
+        boolean inCount = false;
+        int ch;
+        while ((ch = in.read()) >= 0) {
+            char c = (char) ch;
+            if (Character.isDigit(c)) {
+                count = addDigit(count, c);
+                inCount = true;
+                continue;
+            }
+            if (inCount) {
+                if (count > 0) Arrays.fill(buffer, 0, (int) java.lang.Math.min(count, BUFFER_SIZE), c);
+                for (long left = count; left > 0; left -= BUFFER_SIZE) {
+                    out.write(buffer, 0, (int) java.lang.Math.min(left, BUFFER_SIZE));
+                }
+                written += count;
+            }
+            count = 0;
+            inCount = false;
+        }
+        if (inCount) {
+            throw new IllegalArgumentException("개수 뒤에 문자가 없음");
+        }
+        return written;
+    }
+
+    // 6. 압축: 연속된 같은 문자를 "개수 + 문자"로 (길이 1인 런도 "1c"처럼 개수를 붙임)
+    public static java.lang.String compress(CharSequence text) {
+        StringWriter out = new StringWriter();
+        try {
+            compress(new CharSequenceReader(text), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    public static void compress(Reader in, Writer out) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int current = -1;
+        long count = 0;
+        int n;
+        while ((n = in.read(buffer, 0, buffer.length)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                char c = buffer[i];
+                if (c == current) {
+                    count++;
+                    continue;
+                }
+                if (Character.isDigit(c)) {
+                    throw new IllegalArgumentException("숫자 문자는 압축할 수 없음: '" + c + "'");
+                }
+                if (current >= 0) writeRun(out, (char) current, count);
+                current = c;
+                count = 1;
+            }
+        }
+        if (current >= 0) writeRun(out, (char) current, count);
+    }
+
+    private static void writeRun(Writer out, char c, long count) throws IOException {
+        out.write(Long.toString(count));
+        out.write(c);
+    }
+
+    private static final class CharSequenceReader extends Reader {
+        private final CharSequence text;
+        private int pos;
+
+        CharSequenceReader(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) {
+            if (pos >= text.length()) return -1;
+            int n = java.lang.Math.min(len, text.length() - pos);
+            for (int i = 0; i < n; i++) buf[off + i] = text.charAt(pos++);
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) throws IOException {
+        System.out.println("===== 런 길이 부호화 테스트 =====\n");
+
+        Runs runs = parse("2a3b1c");
+        System.out.println("1. '2a3b1c' 펼치기: " + runs + " (런 " + runs.runCount() + "개)");
+        System.out.println("2. 'aabbbc' 압축: " + compress("aabbbc"));
+
+        Runs huge = parse("999999999a1b");
+        System.out.println("3. '999999999a1b' 길이: " + huge.longLength() + ", 마지막 문자: " + huge.charAt(999_999_999L));
+
+        StringWriter out = new StringWriter();
+        long written = decode(new StringReader("3x2y"), out);
+        System.out.println("4. 스트리밍 펼치기: " + out + " (" + written + "글자)");
+    }
+}
@@ -0,0 +1,352 @@
+import java.util.*;
+
+/**
+ * 미리 컴파일해 두고 재사용하는 부분 문자열 검색기
+ * 패턴 길이와 알파벳 크기를 보고 알고리즘을 고름:
+ * - 길이 1          -> 단순 스캔
+ * - 짧은 패턴 / 알파벳이 작은 패턴 (DNA 등) -> KMP
+ * - 그 외           -> Boyer-Moore-Horspool (평균적으로 n / m 근처)
+ *   단, 비교 횟수가 2n을 넘기면 남은 구간을 KMP로 이어서 검색하므로 최악의 경우에도 O(n)
+ * CharSequence, char[], byte[](부호 없는 Latin-1 값으로 비교)의 [from, to) 구간을 검색 가능
+ * 겹치는 매칭도 모두 찾음 ("aaa"에서 "aa" -> 0, 1)
+ */
+public class Searcher {
+
+    enum Algorithm { SINGLE, KMP, HORSPOOL }
+
+    // 이 길이 이하의 패턴은 Horspool의 건너뛰기 이득이 작아 KMP 사용
+    static final int KMP_MAX_LENGTH = 4;
+    // 서로 다른 문자가 이 수 이하이면 Horspool 이동 거리가 짧아 KMP 사용
+    static final int SMALL_ALPHABET = 4;
+
+    // 매칭 위치를 받는 콜백, false를 반환하면 검색 중단
+    @FunctionalInterface
+    public interface MatchHandler {
+        boolean onMatch(int index);
+    }
+
+    private final char[] pattern;
+    private final int[] failure;   // KMP 실패 함수
+    private final int[] shift;     // Horspool 이동 거리 (문자 & 0xFF 버킷별 최솟값)
+    private final Algorithm algorithm;
+
+    private Searcher(char[] pattern) {
+        this.pattern = pattern;
+        int m = pattern.length;
+        this.failure = buildFailure(pattern);
+        this.algorithm = m == 1 ? Algorithm.SINGLE
+            : (m <= KMP_MAX_LENGTH || distinctChars(pattern) <= SMALL_ALPHABET) ? Algorithm.KMP
+            : Algorithm.HORSPOOL;
+
+        this.shift = new int[256];
+        Arrays.fill(shift, java.lang.Math.max(m, 1));
+        // 같은 버킷에 여러 문자가 섞여도 가장 작은 이동 거리를 쓰므로 안전
+        for (int j = 0; j < m - 1; j++) {
+            int bucket = pattern[j] & 0xFF;
+            shift[bucket] = java.lang.Math.min(shift[bucket], m - 1 - j);
+        }
+    }
+
+    // 1. 패턴 컴파일
+    public static Searcher compile(CharSequence pattern) {
+        char[] p = new char[pattern.length()];
+        for (int i = 0; i < p.length; i++) p[i] = pattern.charAt(i);
+        return new Searcher(p);
+    }
+
+    // byte 패턴 (각 바이트를 0 ~ 255 값으로 취급)
+    public static Searcher compile(byte[] pattern) {
+        char[] p = new char[pattern.length];
+        for (int i = 0; i < p.length; i++) p[i] = (char) (pattern[i] & 0xFF);
+        return new Searcher(p);
+    }
+
+    private static int[] buildFailure(char[] p) {
+        int[] fail = new int[p.length];
+        for (int i = 1, k = 0; i < p.length; i++) {
+            while (k > 0 && p[i] != p[k]) k = fail[k - 1];
+            if (p[i] == p[k]) k++;
+            fail[i] = k;
+        }
+        return fail;
+    }
+
+    private static int distinctChars(char[] p) {
+        IntIntHashMap seen = new IntIntHashMap(p.length);
+        for (char c : p) seen.put(c, 1);
+        return seen.size();
+    }
+
+    public int patternLength() {
+        return pattern.length;
+    }
+
+    Algorithm algorithm() {
+        return algorithm;
+    }
+
+    // 2. 첫 매칭 위치 (없으면 -1)
+    public int find(CharSequence text) {
+        return find(text, 0, text.length());
+    }
+
+    public int find(CharSequence text, int from, int to) {
+        int[] first = {-1};
+        scan(text, from, to, i -> {
+            first[0] = i;
+            return false;
+        });
+        return first[0];
+    }
+
+    public int find(char[] text, int from, int to) {
+        int[] first = {-1};
+        scan(text, from, to, i -> {
+            first[0] = i;
+            return false;
+        });
+        return first[0];
+    }
+
+    public int find(byte[] text, int from, int to) {
+        int[] first = {-1};
+        scan(text, from, to, i -> {
+            first[0] = i;
+            return false;
+        });
+        return first[0];
+    }
+
+    // 3. 모든 매칭 위치
+    public int[] findAll(CharSequence text) {
+        return findAll(text, 0, text.length());
+    }
+
+    public int[] findAll(CharSequence text, int from, int to) {
+        Matches matches = new Matches();
+        scan(text, from, to, matches);
+        return matches.toArray();
+    }
+
+    public int[] findAll(char[] text, int from, int to) {
+        Matches matches = new Matches();
+        scan(text, from, to, matches);
+        return matches.toArray();
+    }
+
+    public int[] findAll(byte[] text, int from, int to) {
+        Matches matches = new Matches();
+        scan(text, from, to, matches);
+        return matches.toArray();
+    }
+
+    private static class Matches implements MatchHandler {
+        int[] found = new int[8];
+        int size;
+
+        @Override
+        public boolean onMatch(int index) {
+            if (size == found.length) found = Arrays.copyOf(found, size * 2);
+            found[size++] = index;
+            return true;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(found, size);
+        }
+    }
+
+    // 4. 매칭 위치를 하나씩 꺼내는 반복자 (KMP 상태를 유지하며 필요할 때만 진행)
+    public PrimitiveIterator.OfInt iterator(CharSequence text) {
+        return iterator(text, 0, text.length());
+    }
+
+    public PrimitiveIterator.OfInt iterator(CharSequence text, int from, int to) {
+        checkRange(from, to, text.length());
+        return new PrimitiveIterator.OfInt() {
+            int i = from;        // 다음에 볼 텍스트 위치
+            int j = 0;           // 현재까지 맞은 패턴 길이
+            int next = advance();
+
+            private int advance() {
+                int m = pattern.length;
+                if (m == 0) return i <= to ? i++ : -1;
+                while (i < to) {
+                    char c = text.charAt(i++);
+                    while (j > 0 && c != pattern[j]) j = failure[j - 1];
+                    if (c == pattern[j] && ++j == m) {
+                        j = failure[m - 1];
+                        return i - m;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next < 0) throw new NoSuchElementException();
+                int result = next;
+                next = advance();
+                return result;
+            }
+        };
+    }
+
+    public int count(CharSequence text) {
+        int[] count = {0};
+        scan(text, 0, text.length(), i -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    private static void checkRange(int from, int to, int length) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + length);
+        }
+    }
+
+    // 5. 구간 [from, to)를 검색하며 매칭마다 handler 호출
+    // 텍스트 종류별로 같은 루프를 따로 두어 문자 접근이 인라인되도록 함
+    public void scan(CharSequence text, int from, int to, MatchHandler handler) {
+        checkRange(from, to, text.length());
+        int m = pattern.length;
+        if (m == 0) {
+            for (int i = from; i <= to; i++) if (!handler.onMatch(i)) return;
+            return;
+        }
+        if (algorithm == Algorithm.SINGLE) {
+            // 실패 함수를 거칠 필요 없이 문자 하나만 비교
+            char c = pattern[0];
+            for (int i = from; i < to; i++) {
+                if (text.charAt(i) == c && !handler.onMatch(i)) return;
+            }
+            return;
+        }
+        if (algorithm == Algorithm.HORSPOOL) {
+            long budget = 2L * (to - from) + m;
+            long work = 0;
+            int i = from;
+            while (i <= to - m) {
+                int j = m - 1;
+                while (j >= 0 && text.charAt(i + j) == pattern[j]) j--;
+                work += m - j;
+                if (j < 0 && !handler.onMatch(i)) return;
+                i += shift[text.charAt(i + m - 1) & 0xFF];
+                if (work > budget) break;
+            }
+            from = i;
+            if (from > to - m) return;
+        }
+        int j = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            while (j > 0 && c != pattern[j]) j = failure[j - 1];
+            if (c == pattern[j] && ++j == m) {
+                if (!handler.onMatch(i - m + 1)) return;
+                j = failure[m - 1];
+            }
+        }
+    }
+
+    public void scan(char[] text, int from, int to, MatchHandler handler) {
+        checkRange(from, to, text.length);
+        int m = pattern.length;
+        if (m == 0) {
+            for (int i = from; i <= to; i++) if (!handler.onMatch(i)) return;
+            return;
+        }
+        if (algorithm == Algorithm.SINGLE) {
+            char c = pattern[0];
+            for (int i = from; i < to; i++) {
+                if (text[i] == c && !handler.onMatch(i)) return;
+            }
+            return;
+        }
+        if (algorithm == Algorithm.HORSPOOL) {
+            long budget = 2L * (to - from) + m;
+            long work = 0;
+            int i = from;
+            while (i <= to - m) {
+                int j = m - 1;
+                while (j >= 0 && text[i + j] == pattern[j]) j--;
+                work += m - j;
+                if (j < 0 && !handler.onMatch(i)) return;
+                i += shift[text[i + m - 1] & 0xFF];
+                if (work > budget) break;
+            }
+            from = i;
+            if (from > to - m) return;
+        }
+        int j = 0;
+        for (int i = from; i < to; i++) {
+            char c = text[i];
+            while (j > 0 && c != pattern[j]) j = failure[j - 1];
+            if (c == pattern[j] && ++j == m) {
+                if (!handler.onMatch(i - m + 1)) return;
+                j = failure[m - 1];
+            }
+        }
+    }
+
+    public void scan(byte[] text, int from, int to, MatchHandler handler) {
+        checkRange(from, to, text.length);
+        int m = pattern.length;
+        if (m == 0) {
+            for (int i = from; i <= to; i++) if (!handler.onMatch(i)) return;
+            return;
+        }
+        if (algorithm == Algorithm.SINGLE) {
+            char c = pattern[0];
+            for (int i = from; i < to; i++) {
+                if ((text[i] & 0xFF) == c && !handler.onMatch(i)) return;
+            }
+            return;
+        }
+        if (algorithm == Algorithm.HORSPOOL) {
+            long budget = 2L * (to - from) + m;
+            long work = 0;
+            int i = from;
+            while (i <= to - m) {
+                int j = m - 1;
+                while (j >= 0 && (text[i + j] & 0xFF) == pattern[j]) j--;
+                work += m - j;
+                if (j < 0 && !handler.onMatch(i)) return;
+                i += shift[text[i + m - 1] & 0xFF];
+                if (work > budget) break;
+            }
+            from = i;
+            if (from > to - m) return;
+        }
+        int j = 0;
+        for (int i = from; i < to; i++) {
+            int c = text[i] & 0xFF;
+            while (j > 0 && c != pattern[j]) j = failure[j - 1];
+            if (c == pattern[j] && ++j == m) {
+                if (!handler.onMatch(i - m + 1)) return;
+                j = failure[m - 1];
+            }
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 부분 문자열 검색기 테스트 =====\n");
+
+        Searcher world = compile("world");
+        System.out.println("1. 'world' in 'hello world': " + world.find("hello world"));
+
+        Searcher aa = compile("aa");
+        System.out.println("2. 'aa'의 모든 위치 in 'aaaa': " + Arrays.toString(aa.findAll("aaaa")));
+
+        Searcher error = compile("ERROR:");
+        byte[] log = "INFO: ok\nERROR: disk\nERROR: net\n".getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        System.out.println("3. byte[] 로그에서 'ERROR:' 위치: " + Arrays.toString(error.findAll(log, 0, log.length)));
+    }
+}
@@ -10,10 +10,10 @@ public class String {
         return new StringBuilder(s).reverse().toString();
     }
 
-    // 2. 팰린드롬 확인
+    // 2. 팰린드롬 확인 (대소문자 무시, 영문자 / 숫자만 비교)
+    // 정규식과 복사 없이 양끝에서 거르며 비교 (Palindromes)
     public static boolean isPalindrome(String s) {
-        String clean = s.toLowerCase().replaceAll("[^a-z0-9]", "");
-        return clean.equals(new StringBuilder(clean).reverse().toString());
+        return Palindromes.isNormalizedPalindrome(s);
     }
 
     // 3. 중복된 문자 제거 (첫 등장 순서 유지)
@@ -35,23 +35,17 @@ public class String {
     }
 
     // 5. 아나그램 확인 (문자 재배열로 같은 단어 만들 수 있는지)
+    // 정렬 대신 문자 개수를 비교하므로 O(n), 길이가 다르면 바로 false
     public static boolean isAnagram(String s1, String s2) {
-        char[] arr1 = s1.toCharArray();
-        char[] arr2 = s2.toCharArray();
-        Arrays.sort(arr1);
-        Arrays.sort(arr2);
-        return Arrays.equals(arr1, arr2);
+        return Anagrams.isAnagram(s1, s2);
     }
 
     // 6. 단어 뒤집기
+    // 단어마다 String을 만들지 않고 char[] 하나에서 제자리로 처리 (Tokenizer.reverseWords)
     public static String reverseWords(String s) {
-        String[] words = s.trim().split("\\s+");
-        StringBuilder result = new StringBuilder();
-        for (int i = words.length - 1; i >= 0; i--) {
-            result.append(words[i]);
-            if (i > 0) result.append(" ");
-        }
-        return result.toString();
+        char[] chars = s.toCharArray();
+        int length = Tokenizer.reverseWords(chars, 0, chars.length);
+        return new java.lang.String(chars, 0, length);
     }
 
     // 7. 가장 긴 공통 접두사 찾기
@@ -75,41 +69,22 @@ public class String {
     }
 
     // 9. 압축된 문자열 펼치기 (예: "2a3b" -> "aabbb")
+    // 런 단위로 Arrays.fill 해서 채움, 아주 긴 결과는 RunLength.parse의 Runs를 펼치지 않고 사용
     public static String decompressString(String s) {
-        StringBuilder result = new StringBuilder();
-        int i = 0;
-        while (i < s.length()) {
-            if (Character.isDigit(s.charAt(i))) {
-                int num = 0;
-                while (i < s.length() && Character.isDigit(s.charAt(i))) {
-                    num = num * 10 + (s.charAt(i) - '0');
-                    i++;
-                }
-                char c = s.charAt(i++);
-                for (int j = 0; j < num; j++) {
-                    result.append(c);
-                }
-            } else {
-                i++;
-            }
-        }
-        return result.toString();
+        return RunLength.parse(s).toString();
     }
 
     // 10. 문자열 분할
+    // 한 글자 / 리터럴 구분자는 정규식을 컴파일하지 않음, 같은 구분자로 여러 줄을 나눌 때는 Tokenizer를 재사용
     public static List<String> splitString(String s, String delimiter) {
-        return Arrays.asList(s.split(delimiter));
+        return Tokenizer.of(delimiter).split(s);
     }
 
     // 11. 첫 번째 반복되지 않은 문자 찾기
+    // 한 번 훑으면서 박싱 없이 처리 (FirstUnique), 스트림에서 매번 현재 값을 알고 싶으면 FirstUnique를 직접 사용
     public static Character firstUniqueChar(String s) {
-        Map<Character, Integer> freq = charFrequency(s);
-        for (char c : s.toCharArray()) {
-            if (freq.get(c) == 1) {
-                return c;
-            }
-        }
-        return null;
+        int c = FirstUnique.firstUniqueChar(s);
+        return c < 0 ? null : (char) c;
     }
 
     // 12. 회전된 문자열인지 확인
@@ -118,6 +93,41 @@ public class String {
         return (s1 + s1).contains(s2);
     }
 
+    // 13. 부분 문자열의 모든 위치 찾기 (같은 패턴을 반복해서 찾을 때는 Searcher.compile 결과를 재사용)
+    public static int[] findAllSubstrings(String text, String pattern) {
+        return Searcher.compile(pattern).findAll(text);
+    }
+
+    // 14. 여러 키워드의 등장 횟수를 텍스트 한 번 훑어서 세기 (Aho-Corasick)
+    public static int[] countKeywords(String text, String... keywords) {
+        int[] counts = new int[keywords.length];
+        AhoCorasick.build(keywords).scan(text, (id, start, end) -> {
+            counts[id]++;
+            return true;
+        });
+        return counts;
+    }
+
+    // 15. 두 번 이상 나타나는 가장 긴 부분 문자열 (같은 텍스트에 여러 번 질의할 때는 SuffixIndex를 재사용)
+    public static String longestRepeatedSubstring(String text) {
+        return SuffixIndex.build(text).longestRepeatedSubstring();
+    }
+
+    // 16. 아나그램끼리 묶기
+    public static List<List<String>> groupAnagrams(String[] words) {
+        return Anagrams.groupAnagrams(Arrays.asList(words));
+    }
+
+    // 17. 문자열 압축 (예: "aabbb" -> "2a3b", decompressString의 역변환)
+    public static String compressString(String s) {
+        return RunLength.compress(s);
+    }
+
+    // 18. 가장 긴 팰린드롬 부분 문자열 (Manacher, O(n))
+    public static String longestPalindrome(String s) {
+        return Palindromes.of(s).longest();
+    }
+
     // ==================== 테스트 코드 ====================
     public static void main(String[] args) {
         System.out.println("===== 문자열 메서드 테스트 =====\n");
@@ -183,5 +193,37 @@ public class String {
         // 12. 회전된 문자열
         System.out.println("12. 회전된 문자열 확인");
         System.out.println("'waterbottle' 과 'erbottlewat' : " + isRotation("waterbottle", "erbottlewat"));
+        System.out.println();
+
+        // 13. 부분 문자열의 모든 위치
+        System.out.println("13. 부분 문자열의 모든 위치");
+        System.out.println("'ab' in 'abcabcab' : " + Arrays.toString(findAllSubstrings("abcabcab", "ab")));
+        System.out.println();
+
+        // 14. 여러 키워드 등장 횟수
+        System.out.println("14. 여러 키워드 등장 횟수");
+        System.out.println("[he, she, hers] in 'she sells, he hers' : "
+            + Arrays.toString(countKeywords("she sells, he hers", "he", "she", "hers")));
+        System.out.println();
+
+        // 15. 가장 긴 반복 부분 문자열
+        System.out.println("15. 가장 긴 반복 부분 문자열");
+        System.out.println("'banana' : " + longestRepeatedSubstring("banana"));
+        System.out.println();
+
+        // 16. 아나그램 묶기
+        System.out.println("16. 아나그램 묶기");
+        String[] words = {"eat", "tea", "tan", "ate", "nat", "bat"};
+        System.out.println(Arrays.toString(words) + " : " + groupAnagrams(words));
+        System.out.println();
+
+        // 17. 문자열 압축
+        System.out.println("17. 문자열 압축");
+        System.out.println("'aabbbc' : " + compressString("aabbbc"));
+        System.out.println();
+
+        // 18. 가장 긴 팰린드롬 부분 문자열
+        System.out.println("18. 가장 긴 팰린드롬 부분 문자열");
+        System.out.println("'babad' : " + longestPalindrome("babad"));
     }
 }
@@ -106,6 +106,34 @@ public class StringTest {
         assertFalse(String.isAnagram("Listen", "Silent"));
     }
 
+    @Test
+    @DisplayName("아나그램 - 유니코드와 서로게이트 쌍")
+    void testIsAnagramUnicode() {
+        assertTrue(String.isAnagram("가나다라", "라다나가"));
+        assertTrue(String.isAnagram("a\uD83D\uDE00b", "b\uD83D\uDE00a"));
+        // UTF-16 단위로는 같은 개수지만 코드 포인트가 다름
+        assertFalse(String.isAnagram("\uD83D\uDE00\uD83D\uDE01", "\uD83D\uDE01\uD83D\uDE01"));
+        assertFalse(String.isAnagram("abc", "abcd"));
+
+        // 개수로 만든 유니코드 키: 순서는 무관, 개수가 다르면 다른 키
+        assertEquals(Anagrams.signature("가가나\uD83D\uDE00"), Anagrams.signature("\uD83D\uDE00가나가"));
+        assertNotEquals(Anagrams.signature("가가나"), Anagrams.signature("가나나"));
+        assertNotEquals(Anagrams.signature("\uD83D\uDE00"), Anagrams.signature("\uD83D\uDE00\uD83D\uDE00"));
+    }
+
+    @Test
+    @DisplayName("아나그램 묶기 - 처음 등장 순서 유지")
+    void testGroupAnagrams() {
+        java.lang.String[] words = {"eat", "tea", "tan", "ate", "nat", "bat", "#####", "#5"};
+        List<List<java.lang.String>> groups = Anagrams.groupAnagrams(Arrays.asList(words));
+
+        assertEquals(5, groups.size());
+        assertEquals(Arrays.asList("eat", "tea", "ate"), groups.get(0));
+        assertEquals(Arrays.asList("tan", "nat"), groups.get(1));
+        assertEquals(Arrays.asList("bat"), groups.get(2));
+        assertEquals(Arrays.asList("#####"), groups.get(3));
+    }
+
     @Test
     @DisplayName("단어 뒤집기")
     void testReverseWords() {
@@ -183,6 +211,449 @@ public class StringTest {
         assertEquals("", result);
     }
 
+    @Test
+    @DisplayName("부분 문자열의 모든 위치 - 겹치는 매칭 포함")
+    void testFindAllSubstrings() {
+        assertArrayEquals(new int[]{0, 3, 6}, String.findAllSubstrings("abcabcab", "ab"));
+        assertArrayEquals(new int[]{0, 1, 2}, String.findAllSubstrings("aaaa", "aa"));
+        assertArrayEquals(new int[]{}, String.findAllSubstrings("hello", "xyz"));
+    }
+
+    @Test
+    @DisplayName("컴파일된 검색기 - CharSequence/char[]/byte[] 구간 검색")
+    void testSearcherRanges() {
+        Searcher searcher = Searcher.compile("needle");
+        java.lang.String text = "hay needle hay needle";
+
+        assertEquals(4, searcher.find(text));
+        assertEquals(15, searcher.find(text, 5, text.length()));
+        assertEquals(-1, searcher.find(text.toCharArray(), 5, 20));
+        assertArrayEquals(new int[]{4, 15}, searcher.findAll(text.getBytes(java.nio.charset.StandardCharsets.US_ASCII), 0, text.length()));
+        assertEquals(2, searcher.count(text));
+
+        PrimitiveIterator.OfInt it = searcher.iterator(text);
+        assertEquals(4, it.nextInt());
+        assertEquals(15, it.nextInt());
+        assertFalse(it.hasNext());
+
+        // 한 글자 패턴은 단순 비교 루프 (세 텍스트 종류 모두 같은 결과)
+        Searcher single = Searcher.compile("e");
+        assertEquals(Searcher.Algorithm.SINGLE, single.algorithm());
+        assertArrayEquals(new int[]{5, 6, 9, 16, 17, 20}, single.findAll(text));
+        assertArrayEquals(new int[]{16, 17, 20}, single.findAll(text.toCharArray(), 10, text.length()));
+        assertArrayEquals(new int[]{5, 6, 9}, single.findAll(text.getBytes(java.nio.charset.StandardCharsets.US_ASCII), 0, 10));
+        assertEquals(-1, single.find(text, 10, 16));
+        assertArrayEquals(new int[]{1}, Searcher.compile(new byte[]{(byte) 0xFF}).findAll(new byte[]{0x7F, (byte) 0xFF}, 0, 2));
+    }
+
+    @Test
+    @DisplayName("컴파일된 검색기 - 최악의 입력에서도 선형 시간")
+    void testSearcherWorstCase() {
+        char[] text = new char[2_000_000];
+        Arrays.fill(text, 'a');
+        StringBuilder pattern = new StringBuilder("abcdefg");
+        for (int i = 0; i < 500; i++) {
+            pattern.append('a');
+        }
+        Searcher searcher = Searcher.compile(pattern);
+
+        assertTimeoutPreemptively(java.time.Duration.ofSeconds(5),
+            () -> assertEquals(0, searcher.findAll(text, 0, text.length).length));
+    }
+
+    @Test
+    @DisplayName("다중 패턴 검색 - 겹치는 패턴과 접미사 출력")
+    void testAhoCorasickOverlapping() {
+        AhoCorasick ac = AhoCorasick.build("he", "she", "his", "hers");
+        List<java.lang.String> found = new ArrayList<>();
+        ac.scan("ushers", (id, start, end) -> {
+            found.add(id + "@" + start);
+            return true;
+        });
+        Collections.sort(found);
+
+        assertEquals(Arrays.asList("0@2", "1@1", "3@2"), found);
+        assertTrue(ac.containsAny("this"));
+        assertFalse(ac.containsAny("xyz"));
+        assertArrayEquals(new int[]{3, 1, 1}, String.countKeywords("she sells, he hers", "he", "she", "hers"));
+        assertThrows(IllegalArgumentException.class, () -> AhoCorasick.build("a", ""));
+    }
+
+    @Test
+    @DisplayName("다중 패턴 검색 - 큰 알파벳과 여러 스레드 동시 검색")
+    void testAhoCorasickLargeAlphabetConcurrent() throws Exception {
+        // 서로 다른 문자가 많아 간선 배열 모드로 구축됨
+        List<java.lang.String> patterns = new ArrayList<>();
+        for (char c = '\u4E00'; c < '\u4E00' + 200; c += 2) {
+            patterns.add(new java.lang.String(new char[]{c, (char) (c + 1)}));
+        }
+        AhoCorasick ac = AhoCorasick.build(patterns);
+        assertFalse(ac.isDense());
+
+        StringBuilder text = new StringBuilder();
+        for (char c = '\u4E00'; c < '\u4E00' + 200; c++) {
+            text.append(c);
+        }
+        java.lang.String doc = text.toString();
+
+        Thread[] threads = new Thread[4];
+        int[] counts = new int[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int slot = t;
+            threads[t] = new Thread(() -> ac.scan(doc, (id, start, end) -> {
+                counts[slot]++;
+                return true;
+            }));
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int count : counts) {
+            assertEquals(100, count);
+        }
+    }
+
+    @Test
+    @DisplayName("접미사 인덱스 - 등장 횟수, LCP, 가장 긴 반복 부분 문자열")
+    void testSuffixIndexQueries() {
+        SuffixIndex index = SuffixIndex.build("mississippi");
+
+        assertEquals(2, index.count("issi"));
+        assertArrayEquals(new int[]{1, 4}, index.occurrences("issi"));
+        assertTrue(index.contains("sip"));
+        assertFalse(index.contains("sss"));
+        assertEquals(4, index.lcp(1, 4));
+        assertEquals(0, index.lcp(0, 1));
+        assertEquals("issi", String.longestRepeatedSubstring("mississippi"));
+    }
+
+    @Test
+    @DisplayName("접미사 인덱스 - 파일로 저장 후 매핑해서 같은 결과")
+    void testSuffixIndexSaveLoad() throws Exception {
+        StringBuilder text = new StringBuilder();
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            text.append((char) ('a' + random.nextInt(3)));
+        }
+        SuffixIndex built = SuffixIndex.build(text);
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("suffix", ".idx");
+        try {
+            built.save(file);
+            try (SuffixIndex loaded = SuffixIndex.load(file)) {
+                assertEquals(built.length(), loaded.length());
+                for (int r = 0; r < built.length(); r++) {
+                    assertEquals(built.suffix(r), loaded.suffix(r));
+                }
+                assertEquals(built.count("abcab"), loaded.count("abcab"));
+                assertEquals(built.lcp(17, 4242), loaded.lcp(17, 4242));
+            }
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("UTF-8 바이트 분석 - 빈도수, 팰린드롬, 첫 유일 문자")
+    void testUtf8TextByteBuffer() {
+        java.nio.ByteBuffer text = java.nio.ByteBuffer.wrap(
+            "가나가 \uD83D\uDE00 ab a".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        Utf8Text.Frequencies freq = Utf8Text.frequencies(text);
+
+        assertEquals(2, freq.count('가'));
+        assertEquals(1, freq.count(0x1F600));
+        assertEquals(2, freq.count('a'));
+        assertEquals(10, freq.total());
+        assertEquals('나', Utf8Text.firstUniqueCodePoint(text));
+
+        assertTrue(Utf8Text.isPalindrome(java.nio.ByteBuffer.wrap(
+            "Was it a car 또는 a cat I saw?".getBytes(java.nio.charset.StandardCharsets.UTF_8))));
+        assertFalse(Utf8Text.isPalindrome(java.nio.ByteBuffer.wrap("race a car".getBytes())));
+    }
+
+    @Test
+    @DisplayName("UTF-8 파일 분석 - 조각 경계에 걸친 멀티바이트 문자")
+    void testUtf8TextFileChunks() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("a가\uD83D\uDE00é");
+        }
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("utf8", ".txt");
+        try {
+            java.nio.file.Files.write(file, text.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            // 조각 크기를 문자 길이와 어긋나게 잡아 모든 경계 위치를 거치게 함
+            Utf8Text.Frequencies freq = Utf8Text.frequencies(file, 7);
+
+            assertEquals(1000, freq.count('a'));
+            assertEquals(1000, freq.count('가'));
+            assertEquals(1000, freq.count(0x1F600));
+            assertEquals(1000, freq.count('é'));
+            assertEquals(0, freq.count(Utf8Text.REPLACEMENT));
+            assertEquals(4, freq.distinct());
+            assertEquals(-1, Utf8Text.firstUniqueCodePoint(file));
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("압축된 문자열 펼치기와 압축")
+    void testDecompressAndCompress() {
+        assertEquals("aabbbc", String.decompressString("2a3b1c"));
+        assertEquals("xyyyyyyyyyyyy", String.decompressString("1x12y"));
+        assertEquals("2a3b1c", String.compressString("aabbbc"));
+        assertEquals("aabbbc", String.decompressString(String.compressString("aabbbc")));
+        assertThrows(IllegalArgumentException.class, () -> String.compressString("a1"));
+    }
+
+    @Test
+    @DisplayName("런 길이 뷰 - 펼치지 않고 임의 위치 접근과 스트리밍 출력")
+    void testRunLengthLazyView() throws Exception {
+        RunLength.Runs runs = RunLength.parse("999999999a1b");
+        assertEquals(1_000_000_000L, runs.longLength());
+        assertEquals('a', runs.charAt(123_456_789L));
+        assertEquals('b', runs.charAt(999_999_999L));
+        assertEquals("aab", runs.subSequence(999_999_997L, 1_000_000_000L).toString());
+
+        java.io.StringWriter out = new java.io.StringWriter();
+        RunLength.parse("3x2y").writeTo(out);
+        assertEquals("xxxyy", out.toString());
+
+        java.io.Reader reader = RunLength.parse("2a3b").subSequence(1, 4).reader();
+        char[] buf = new char[8];
+        assertEquals(3, reader.read(buf, 0, buf.length));
+        assertEquals("abb", new java.lang.String(buf, 0, 3));
+        assertEquals(-1, reader.read(buf, 0, buf.length));
+    }
+
+    @Test
+    @DisplayName("문자열 분할 - 한 글자, 리터럴, 정규식 구분자")
+    void testSplitStringModes() {
+        assertEquals(Arrays.asList("a", "", "b"), String.splitString("a,,b,,", ","));
+        assertEquals(Arrays.asList("a", "b"), String.splitString("a|b", "\\|"));
+        assertEquals(Arrays.asList("x", "y", "", "z"), String.splitString("x::y::::z", "::"));
+        assertEquals(Arrays.asList("1", "2", "3"), String.splitString("1 ;2;  3", "\\s*;\\s*"));
+        assertEquals(Tokenizer.Mode.CHAR, Tokenizer.of("\\.").mode());
+        assertEquals(Tokenizer.Mode.LITERAL, Tokenizer.of("::").mode());
+        assertEquals(Tokenizer.Mode.REGEX, Tokenizer.of("\\s+").mode());
+    }
+
+    @Test
+    @DisplayName("토크나이저 커서 - 슬라이스 재사용과 제자리 단어 뒤집기")
+    void testTokenizerCursor() {
+        Tokenizer.Cursor cursor = Tokenizer.of(",").cursor("7,-8,,9");
+        Tokenizer.Slice slice = cursor.slice();
+        long sum = 0;
+        int tokens = 0;
+        while (cursor.next()) {
+            assertSame(slice, cursor.slice());
+            if (slice.length() > 0) sum += slice.parseLong();
+            tokens++;
+        }
+        assertEquals(8, sum);
+        assertEquals(4, tokens);
+
+        cursor.reset("id,name");
+        assertTrue(cursor.next());
+        assertTrue(cursor.slice().contentEquals("id"));
+
+        char[] chars = "  the sky  is blue ".toCharArray();
+        int length = Tokenizer.reverseWords(chars, 0, chars.length);
+        assertEquals("blue is sky the", new java.lang.String(chars, 0, length));
+    }
+
+    @Test
+    @DisplayName("롤링 해시 - 부분 문자열 해시, LCP, 다중 길이 Rabin-Karp")
+    void testRollingHashPrefix() {
+        RollingHash.Prefix hash = RollingHash.Prefix.of("abracadabra");
+        assertEquals(hash.hash(0, 4), hash.hash(7, 11));
+        assertNotEquals(hash.hash(0, 4), hash.hash(1, 5));
+        assertEquals(4, hash.lcp(0, 7));
+        assertEquals(1, hash.lcp(0, 3));
+
+        RollingHash.Prefix other = RollingHash.Prefix.of("abrasive", hash.base());
+        assertEquals(4, hash.lcp(0, other, 0));
+
+        List<java.lang.String> found = new ArrayList<>();
+        RollingHash.search("abracadabra", Arrays.asList("abra", "cad", "a"), (id, start) -> {
+            found.add(id + "@" + start);
+            return true;
+        });
+        assertEquals(Arrays.asList("2@0", "0@0", "2@3", "1@4", "2@5", "2@7", "0@7", "2@10"), found);
+    }
+
+    @Test
+    @DisplayName("롤링 해시 - 내용 기반 청크는 앞쪽 삽입 뒤에도 경계가 유지됨")
+    void testRollingHashChunker() {
+        byte[] data = new byte[1 << 20];
+        new Random(11).nextBytes(data);
+        byte[] shifted = new byte[data.length + 37];
+        System.arraycopy(data, 0, shifted, 37, data.length);
+
+        Set<Long> boundaries = new HashSet<>();
+        RollingHash.Chunker chunker = new RollingHash.Chunker(new java.io.ByteArrayInputStream(data), 12, 1024, 32768);
+        long last = 0;
+        while (chunker.hasNext()) {
+            long end = chunker.nextLong();
+            assertTrue(end - last <= 32768);
+            boundaries.add(end);
+            last = end;
+        }
+        assertEquals(data.length, last);
+
+        int realigned = 0;
+        chunker = new RollingHash.Chunker(new java.io.ByteArrayInputStream(shifted), 12, 1024, 32768);
+        while (chunker.hasNext()) {
+            if (boundaries.contains(chunker.nextLong() - 37)) realigned++;
+        }
+        assertTrue(realigned >= boundaries.size() - 2);
+    }
+
+    @Test
+    @DisplayName("기수 트라이 - 삽입/삭제 후 공통 접두사, 접두사 검색, 최장 접두사 매칭")
+    void testRadixTrie() {
+        RadixTrie trie = new RadixTrie();
+        for (java.lang.String word : new java.lang.String[]{"flower", "flow", "flight", "fleet"}) {
+            assertTrue(trie.insert(word));
+        }
+        assertFalse(trie.insert("flow"));
+        assertEquals("fl", trie.longestCommonPrefix());
+        assertEquals(Arrays.asList("flow", "flower"), trie.keysWithPrefix("flo", 10));
+        assertEquals(Arrays.asList("fleet", "flight"), trie.keysWithPrefix("f", 2));
+        assertEquals(4, trie.longestPrefixOf("flowing"));
+        assertEquals(-1, trie.longestPrefixOf("fl"));
+
+        assertTrue(trie.delete("fleet"));
+        assertTrue(trie.delete("flight"));
+        assertFalse(trie.delete("flight"));
+        assertEquals("flow", trie.longestCommonPrefix());
+        // 루트 -> "flow" -> "er" 만 남도록 합쳐짐
+        assertEquals(3, trie.nodeCount());
+    }
+
+    @Test
+    @DisplayName("기수 트라이 - 삽입/삭제를 반복해도 라벨 풀이 살아 있는 키 크기에 비례, 깊은 트라이 순회")
+    void testRadixTriePoolCompactionAndDeepCollect() {
+        RadixTrie trie = new RadixTrie();
+        TreeSet<java.lang.String> expected = new TreeSet<>();
+        Random random = new Random(7);
+        for (int round = 0; round < 50_000; round++) {
+            java.lang.String key = "k" + random.nextInt(500) + "/" + random.nextInt(20);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), trie.insert(key));
+            } else {
+                assertEquals(expected.remove(key), trie.delete(key));
+            }
+        }
+        assertEquals(new ArrayList<>(expected), trie.keysWithPrefix("", Integer.MAX_VALUE));
+        int liveChars = 0;
+        for (java.lang.String key : expected) {
+            liveChars += key.length();
+        }
+        assertTrue(trie.poolChars() <= 2 * liveChars + 64);
+
+        // "a", "aa", ... 깊이 20000짜리 사슬도 재귀 없이 모두 꺼냄
+        RadixTrie chain = new RadixTrie();
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            chain.insert(key.append('a'));
+        }
+        List<java.lang.String> all = chain.freeze().keysWithPrefix("", Integer.MAX_VALUE);
+        assertEquals(20_000, all.size());
+        assertEquals(20_000, all.get(all.size() - 1).length());
+    }
+
+    @Test
+    @DisplayName("기수 트라이 - 읽기 전용 형태를 여러 스레드가 동시에 조회")
+    void testRadixTrieFrozenConcurrent() throws Exception {
+        RadixTrie trie = new RadixTrie();
+        for (int i = 0; i < 10_000; i++) {
+            trie.insert("user" + i);
+        }
+        RadixTrie.Frozen frozen = trie.freeze();
+        assertEquals("user", frozen.longestCommonPrefix());
+        assertEquals(Arrays.asList("user99", "user990", "user9900"), frozen.keysWithPrefix("user99", 3));
+
+        Thread[] threads = new Thread[4];
+        boolean[] ok = new boolean[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int slot = t;
+            threads[t] = new Thread(() -> {
+                boolean all = true;
+                for (int i = slot; i < 10_000; i += threads.length) {
+                    all &= frozen.contains("user" + i) && !frozen.contains("user" + i + "x");
+                }
+                ok[slot] = all;
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (boolean b : ok) {
+            assertTrue(b);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 번째 반복되지 않은 문자")
+    void testFirstUniqueChar() {
+        assertEquals(Character.valueOf('l'), String.firstUniqueChar("leetcode"));
+        assertEquals(Character.valueOf('v'), String.firstUniqueChar("loveleetcode"));
+        assertNull(String.firstUniqueChar("aabb"));
+        assertNull(String.firstUniqueChar(""));
+    }
+
+    @Test
+    @DisplayName("온라인 첫 유일 토큰 - 추가할 때마다 갱신, 큰 토큰 id")
+    void testFirstUniqueOnline() {
+        FirstUnique chars = FirstUnique.dense(128);
+        chars.add('a');
+        assertEquals('a', chars.first());
+        chars.add('a');
+        assertFalse(chars.hasUnique());
+        chars.add('b');
+        chars.add('c');
+        assertEquals('b', chars.first());
+        chars.add('b');
+        assertEquals('c', chars.first());
+        assertThrows(IllegalArgumentException.class, () -> chars.add(200));
+
+        FirstUnique ids = FirstUnique.sparse();
+        ids.add(Integer.MAX_VALUE);
+        ids.add(-5);
+        ids.add(Integer.MAX_VALUE);
+        assertEquals(-5, ids.first());
+        ids.add(-5);
+        assertEquals(-1, ids.firstOrDefault(-1));
+        assertEquals(4, ids.added());
+    }
+
+    @Test
+    @DisplayName("Manacher - 구간 팰린드롬 O(1) 질의, 가장 긴 팰린드롬, 개수")
+    void testPalindromesManacher() {
+        Palindromes p = Palindromes.of("abacaba");
+        assertTrue(p.isPalindrome(0, 7));
+        assertTrue(p.isPalindrome(4, 7));
+        assertFalse(p.isPalindrome(0, 2));
+        assertTrue(p.isPalindrome(3, 3));
+        assertEquals("abacaba", p.longest());
+        assertEquals(12, p.count());
+        assertEquals("bab", String.longestPalindrome("babad"));
+        assertEquals("", String.longestPalindrome(""));
+    }
+
+    @Test
+    @DisplayName("Manacher - 정규화 모드와 할당 없는 비교")
+    void testPalindromesNormalized() {
+        Palindromes p = Palindromes.ofNormalized("xy, Never odd or even!");
+        assertEquals("Never odd or even", p.longest());
+        assertEquals(4, p.sourceIndex(2));
+        assertTrue(Palindromes.isNormalizedPalindrome("No 'x' in Nixon"));
+        assertTrue(Palindromes.isNormalizedPalindrome(".,!"));
+        assertFalse(Palindromes.isNormalizedPalindrome("0P"));
+    }
+
     @Test
     @DisplayName("빈 문자열 처리")
     void testEmptyString() {
@@ -0,0 +1,367 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 접미사 배열 + LCP 배열 기반 텍스트 인덱스
+ * 같은 큰 텍스트에 여러 번 질의할 때 한 번 구축해 두고 재사용:
+ * - 구축: SA-IS (O(n)) + Kasai LCP (O(n)) + 블록 최솟값 희소 테이블
+ * - 부분 문자열 존재 / 등장 횟수 / 위치: O(m log n)
+ * - 임의의 두 접미사의 LCP: 희소 테이블 O(1) + 블록 경계 스캔 (최대 2 * BLOCK개)
+ * - 가장 긴 반복 부분 문자열: O(n)
+ * save로 int 배열 파일에 저장하고 load로 메모리 매핑해서 다시 구축하지 않고 바로 질의
+ *
+ * 저장 형식 (int, big-endian):
+ *   [MAGIC, n, 블록 수, 레벨 수] [텍스트 (char 2개씩 묶음)] [SA] [rank] [LCP] [블록 희소 테이블]
+ */
+public class SuffixIndex implements Closeable {
+
+    static final int MAGIC = 0x53554658;  // "SUFX"
+    static final int BLOCK_SHIFT = 4;
+    static final int BLOCK = 1 << BLOCK_SHIFT;
+    private static final int HEADER = 4;
+
+    private final IntArray data;
+    private final int n;
+    private final int blocks;
+    private final long textOffset, saOffset, rankOffset, lcpOffset, tableOffset;
+
+    private SuffixIndex(IntArray data) {
+        this.data = data;
+        if (data.length() < HEADER || data.get(0) != MAGIC) {
+            throw new IllegalArgumentException("접미사 인덱스 형식이 아님");
+        }
+        this.n = data.get(1);
+        this.blocks = data.get(2);
+        int levels = data.get(3);
+        this.textOffset = HEADER;
+        this.saOffset = textOffset + (n + 1) / 2;
+        this.rankOffset = saOffset + n;
+        this.lcpOffset = rankOffset + n;
+        this.tableOffset = lcpOffset + n;
+        if (data.length() != tableOffset + (long) levels * blocks) {
+            throw new IllegalArgumentException("파일 크기가 맞지 않음: " + data.length());
+        }
+    }
+
+    // 1. 인덱스 구축
+    public static SuffixIndex build(CharSequence text) {
+        int n = text.length();
+        int blocks = (n + BLOCK - 1) >>> BLOCK_SHIFT;
+        int levels = blocks == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(blocks);
+        long total = HEADER + (n + 1) / 2 + 3L * n + (long) levels * blocks;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("텍스트가 너무 김: " + n);
+        }
+        int[] layout = new int[(int) total];
+        layout[0] = MAGIC;
+        layout[1] = n;
+        layout[2] = blocks;
+        layout[3] = levels;
+
+        // 문자를 출현하는 값만 1..K로 압축 (SA-IS는 알파벳 크기만큼 버킷을 씀)
+        int[] ids = new int[Character.MAX_VALUE + 1];
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            ids[c] = 1;
+            layout[HEADER + (i >>> 1)] |= (i & 1) == 0 ? c << 16 : c;
+        }
+        int upper = 0;
+        for (int c = 0; c < ids.length; c++) {
+            if (ids[c] != 0) ids[c] = upper++;
+        }
+        int[] s = new int[n];
+        for (int i = 0; i < n; i++) s[i] = ids[text.charAt(i)];
+
+        int[] sa = suffixArray(s, java.lang.Math.max(upper - 1, 0));
+        int saOff = HEADER + (n + 1) / 2, rankOff = saOff + n, lcpOff = rankOff + n, tableOff = lcpOff + n;
+        System.arraycopy(sa, 0, layout, saOff, n);
+        ParallelScan.parallelFor(n, (from, to) -> {
+            for (int r = from; r < to; r++) layout[rankOff + sa[r]] = r;
+        });
+
+        // Kasai: 텍스트 순서로 진행하며 이전 위치의 LCP - 1부터 비교 시작
+        for (int i = 0, h = 0; i < n; i++) {
+            int r = layout[rankOff + i];
+            if (r == 0) {
+                h = 0;
+                continue;
+            }
+            int j = sa[r - 1];
+            while (i + h < n && j + h < n && s[i + h] == s[j + h]) h++;
+            layout[lcpOff + r] = h;
+            if (h > 0) h--;
+        }
+
+        // 블록 최솟값과 그 위의 희소 테이블
+        ParallelScan.parallelFor(blocks, (from, to) -> {
+            for (int b = from; b < to; b++) {
+                int min = Integer.MAX_VALUE;
+                for (int r = b << BLOCK_SHIFT, end = java.lang.Math.min(n, r + BLOCK); r < end; r++) {
+                    min = java.lang.Math.min(min, layout[lcpOff + r]);
+                }
+                layout[tableOff + b] = min;
+            }
+        });
+        for (int k = 1; k < levels; k++) {
+            int row = tableOff + k * blocks, prev = tableOff + (k - 1) * blocks, half = 1 << (k - 1);
+            ParallelScan.parallelFor(blocks - (1 << k) + 1, (from, to) -> {
+                for (int b = from; b < to; b++) {
+                    layout[row + b] = java.lang.Math.min(layout[prev + b], layout[prev + b + half]);
+                }
+            });
+        }
+        return new SuffixIndex(IntArray.wrap(layout));
+    }
+
+    // 2. 저장된 인덱스를 읽기 전용으로 매핑 (구축 없이 바로 질의 가능, 사용 후 close)
+    public static SuffixIndex load(Path path) throws IOException {
+        IntArray.Mapped mapped = IntArray.mapReadOnly(path);
+        try {
+            return new SuffixIndex(mapped);
+        } catch (RuntimeException e) {
+            mapped.close();
+            throw e;
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        try (IntArray.Mapped out = IntArray.create(path, data.length())) {
+            for (long i = 0; i < data.length(); i++) out.set(i, data.get(i));
+            out.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (data instanceof Closeable) ((Closeable) data).close();
+    }
+
+    public int length() {
+        return n;
+    }
+
+    public char charAt(int i) {
+        int packed = data.get(textOffset + (i >>> 1));
+        return (char) ((i & 1) == 0 ? packed >>> 16 : packed);
+    }
+
+    // 사전순 r번째 접미사의 시작 위치
+    public int suffix(int r) {
+        return data.get(saOffset + r);
+    }
+
+    // 위치 i에서 시작하는 접미사의 사전순 순위
+    public int rank(int i) {
+        return data.get(rankOffset + i);
+    }
+
+    // 사전순 r - 1번째와 r번째 접미사의 LCP (r = 0이면 0)
+    public int adjacentLcp(int r) {
+        return data.get(lcpOffset + r);
+    }
+
+    // 3. SA-IS (s의 값은 0 ~ upper)
+    static int[] suffixArray(int[] s, int upper) {
+        int n = s.length;
+        if (n == 0) return new int[0];
+        if (n == 1) return new int[]{0};
+        if (n == 2) return s[0] < s[1] ? new int[]{0, 1} : new int[]{1, 0};
+
+        int[] sa = new int[n];
+        boolean[] ls = new boolean[n];  // true = S형 (s[i..] < s[i + 1..])
+        for (int i = n - 2; i >= 0; i--) {
+            ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+        }
+        // 버킷 경계: sumL[c] = 문자 c의 L형 시작, sumS[c] = 문자 c의 S형 시작
+        int[] sumL = new int[upper + 2], sumS = new int[upper + 2];
+        for (int i = 0; i < n; i++) {
+            if (!ls[i]) sumS[s[i]]++;
+            else sumL[s[i] + 1]++;
+        }
+        for (int c = 0; c <= upper; c++) {
+            sumS[c] += sumL[c];
+            sumL[c + 1] += sumS[c];
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) {
+            if (!ls[i - 1] && ls[i]) lmsMap[i] = m++;
+        }
+        int[] lms = new int[m];
+        for (int i = 1, k = 0; i < n; i++) {
+            if (!ls[i - 1] && ls[i]) lms[k++] = i;
+        }
+        induce(s, sa, ls, lms, sumL, sumS);
+
+        if (m > 0) {
+            // 정렬된 LMS 부분 문자열에 번호를 매겨 축약 문자열을 만들고 재귀
+            int[] sortedLms = new int[m];
+            for (int i = 0, k = 0; i < n; i++) {
+                if (lmsMap[sa[i]] != -1) sortedLms[k++] = sa[i];
+            }
+            int[] recS = new int[m];
+            int recUpper = 0;
+            recS[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int l = sortedLms[i - 1], r = sortedLms[i];
+                int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+                int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if (endL - l != endR - r) {
+                    same = false;
+                } else {
+                    while (l < endL && s[l] == s[r]) {
+                        l++;
+                        r++;
+                    }
+                    if (l == n || s[l] != s[r]) same = false;
+                }
+                if (!same) recUpper++;
+                recS[lmsMap[sortedLms[i]]] = recUpper;
+            }
+            int[] recSa = suffixArray(recS, recUpper);
+            for (int i = 0; i < m; i++) sortedLms[i] = lms[recSa[i]];
+            induce(s, sa, ls, sortedLms, sumL, sumS);
+        }
+        return sa;
+    }
+
+    // LMS 위치를 S형 버킷에 넣고 L형, S형 순서로 유도 정렬
+    private static void induce(int[] s, int[] sa, boolean[] ls, int[] lms, int[] sumL, int[] sumS) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+        int[] buf = sumS.clone();
+        for (int d : lms) {
+            if (d != n) sa[buf[s[d]]++] = d;
+        }
+        buf = sumL.clone();
+        sa[buf[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !ls[v - 1]) sa[buf[s[v - 1]]++] = v - 1;
+        }
+        buf = sumL.clone();
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && ls[v - 1]) sa[--buf[s[v - 1] + 1]] = v - 1;
+        }
+    }
+
+    // 4. 패턴이 나타나는 접미사 순위 구간 [lo, hi)
+    private int compare(CharSequence pattern, int pos) {
+        int m = pattern.length();
+        for (int k = 0; k < m; k++) {
+            if (pos + k >= n) return 1;  // 접미사가 먼저 끝남 -> 패턴이 더 큼
+            int d = pattern.charAt(k) - charAt(pos + k);
+            if (d != 0) return d;
+        }
+        return 0;
+    }
+
+    private int lowerBound(CharSequence pattern, boolean strict) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(pattern, suffix(mid));
+            if (c > 0 || (strict && c == 0)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public boolean contains(CharSequence pattern) {
+        return count(pattern) > 0;
+    }
+
+    public int count(CharSequence pattern) {
+        if (pattern.length() == 0) return n + 1;
+        return lowerBound(pattern, true) - lowerBound(pattern, false);
+    }
+
+    // 등장 위치 (오름차순)
+    public int[] occurrences(CharSequence pattern) {
+        if (pattern.length() == 0) {
+            int[] all = new int[n + 1];
+            for (int i = 0; i <= n; i++) all[i] = i;
+            return all;
+        }
+        int lo = lowerBound(pattern, false), hi = lowerBound(pattern, true);
+        int[] result = new int[hi - lo];
+        for (int r = lo; r < hi; r++) result[r - lo] = suffix(r);
+        Arrays.sort(result);
+        return result;
+    }
+
+    // 5. 위치 i, j에서 시작하는 두 접미사의 최장 공통 접두사 길이
+    public int lcp(int i, int j) {
+        if (i < 0 || j < 0 || i > n || j > n) {
+            throw new IndexOutOfBoundsException("i = " + i + ", j = " + j + ", n = " + n);
+        }
+        if (i == n || j == n) return 0;
+        if (i == j) return n - i;
+        int a = rank(i), b = rank(j);
+        if (a > b) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        return minLcp(a + 1, b + 1);
+    }
+
+    // LCP 배열 [from, to)의 최솟값: 양 끝 조각은 직접 스캔, 가운데 완전한 블록들은 희소 테이블
+    private int minLcp(int from, int to) {
+        int firstFull = (from + BLOCK - 1) >>> BLOCK_SHIFT;
+        int lastFull = to >>> BLOCK_SHIFT;  // 배타적
+        int min = Integer.MAX_VALUE;
+        if (firstFull >= lastFull) {
+            for (int r = from; r < to; r++) min = java.lang.Math.min(min, adjacentLcp(r));
+            return min;
+        }
+        for (int r = from, end = firstFull << BLOCK_SHIFT; r < end; r++) min = java.lang.Math.min(min, adjacentLcp(r));
+        for (int r = lastFull << BLOCK_SHIFT; r < to; r++) min = java.lang.Math.min(min, adjacentLcp(r));
+        int k = 31 - Integer.numberOfLeadingZeros(lastFull - firstFull);
+        long row = tableOffset + (long) k * blocks;
+        min = java.lang.Math.min(min, data.get(row + firstFull));
+        min = java.lang.Math.min(min, data.get(row + lastFull - (1 << k)));
+        return min;
+    }
+
+    // 6. 두 번 이상 나타나는 가장 긴 부분 문자열 (겹쳐도 됨, 없으면 빈 문자열)
+    public java.lang.String longestRepeatedSubstring() {
+        int best = 0, at = 0;
+        for (int r = 1; r < n; r++) {
+            int h = adjacentLcp(r);
+            if (h > best) {
+                best = h;
+                at = suffix(r);
+            }
+        }
+        char[] result = new char[best];
+        for (int k = 0; k < best; k++) result[k] = charAt(at + k);
+        return new java.lang.String(result);
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) throws IOException {
+        System.out.println("===== 접미사 배열 인덱스 테스트 =====\n");
+
+        SuffixIndex index = build("banana");
+        int[] sa = new int[index.length()];
+        for (int r = 0; r < sa.length; r++) sa[r] = index.suffix(r);
+        System.out.println("1. 'banana' 접미사 배열: " + Arrays.toString(sa));
+        System.out.println("2. 'ana' 등장 횟수: " + index.count("ana") + ", 위치: " + Arrays.toString(index.occurrences("ana")));
+        System.out.println("3. 위치 1, 3 접미사의 LCP: " + index.lcp(1, 3));
+        System.out.println("4. 가장 긴 반복 부분 문자열: " + index.longestRepeatedSubstring());
+
+        Path file = Files.createTempFile("suffix", ".idx");
+        index.save(file);
+        try (SuffixIndex loaded = load(file)) {
+            System.out.println("5. 파일에서 매핑한 인덱스의 'nan' 포함 여부: " + loaded.contains("nan"));
+        }
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,306 @@
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * 구분자로 문자열을 나누는 재사용 토크나이저
+ * 구분자를 한 번만 분석해서 세 가지 방식 중 하나로 동작:
+ * - 한 글자 (정규식 특수 문자가 아니거나 "\\." 처럼 이스케이프된 한 글자) -> 문자 비교
+ * - 특수 문자가 없는 여러 글자 -> 리터럴 비교
+ * - 그 외 -> 미리 컴파일한 Pattern (Matcher도 Cursor 안에서 재사용)
+ * Cursor는 토큰마다 새 String을 만들지 않고 원본의 [start, end)를 가리키는 Slice 하나를 갱신함
+ * Tokenizer는 불변이라 여러 스레드가 공유 가능, Cursor는 스레드마다 하나씩 두고 reset으로 재사용
+ */
+public class Tokenizer {
+
+    private static final java.lang.String REGEX_META = ".$|()[{^?*+\\";
+
+    enum Mode { CHAR, LITERAL, REGEX }
+
+    private final Mode mode;
+    private final char delimiterChar;
+    private final java.lang.String literal;
+    private final Pattern pattern;
+
+    private Tokenizer(java.lang.String delimiter) {
+        int n = delimiter.length();
+        if (n == 1 && REGEX_META.indexOf(delimiter.charAt(0)) < 0) {
+            mode = Mode.CHAR;
+            delimiterChar = delimiter.charAt(0);
+            literal = delimiter;
+            pattern = null;
+        } else if (n == 2 && delimiter.charAt(0) == '\\' && !Character.isLetterOrDigit(delimiter.charAt(1))
+                && !Character.isSurrogate(delimiter.charAt(1))) {
+            // "\\|" 같은 이스케이프된 한 글자
+            mode = Mode.CHAR;
+            delimiterChar = delimiter.charAt(1);
+            literal = delimiter.substring(1);
+            pattern = null;
+        } else if (n > 1 && !containsAny(delimiter, REGEX_META)) {
+            mode = Mode.LITERAL;
+            delimiterChar = 0;
+            literal = delimiter;
+            pattern = null;
+        } else {
+            mode = Mode.REGEX;
+            delimiterChar = 0;
+            literal = null;
+            pattern = Pattern.compile(delimiter);
+        }
+    }
+
+    private static boolean containsAny(java.lang.String s, java.lang.String chars) {
+        for (int i = 0; i < s.length(); i++) {
+            if (chars.indexOf(s.charAt(i)) >= 0) return true;
+        }
+        return false;
+    }
+
+    // 1. 구분자 분석 (정규식 규칙은 java.lang.String.split과 같음)
+    public static Tokenizer of(java.lang.String delimiter) {
+        return new Tokenizer(delimiter);
+    }
+
+    Mode mode() {
+        return mode;
+    }
+
+    public Cursor cursor(CharSequence text) {
+        return new Cursor().reset(text);
+    }
+
+    // 2. java.lang.String.split과 같은 결과 (끝쪽 빈 토큰 제거)
+    public List<java.lang.String> split(CharSequence text) {
+        List<java.lang.String> tokens = new ArrayList<>();
+        int lastNonEmpty = 0;
+        Cursor cursor = cursor(text);
+        while (cursor.next()) {
+            Slice token = cursor.slice();
+            tokens.add(token.toString());
+            if (token.length() > 0) lastNonEmpty = tokens.size();
+        }
+        // 입력이 비어 있으면 빈 토큰 하나를 그대로 둠
+        if (text.length() == 0) return tokens;
+        return new ArrayList<>(tokens.subList(0, lastNonEmpty));
+    }
+
+    // 끝쪽 빈 토큰까지 포함한 토큰 수 (split(regex, -1)의 길이)
+    public int count(CharSequence text) {
+        int count = 0;
+        Cursor cursor = cursor(text);
+        while (cursor.next()) count++;
+        return count;
+    }
+
+    // 3. 원본 문자열의 [start, end)를 가리키는 뷰 (next마다 같은 객체가 갱신됨)
+    public static final class Slice implements CharSequence {
+        private CharSequence source;
+        private int start, end;
+
+        void set(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+            }
+            return source.charAt(start + index);
+        }
+
+        // 복사본이 필요할 때만 사용 (갱신되지 않는 독립된 CharSequence)
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > end - start || from > to) {
+                throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + (end - start));
+            }
+            return source.subSequence(start + from, start + to);
+        }
+
+        public boolean contentEquals(CharSequence other) {
+            if (other.length() != end - start) return false;
+            for (int i = 0; i < other.length(); i++) {
+                if (source.charAt(start + i) != other.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        // String을 만들지 않고 정수로 변환 (부호 허용, 범위를 넘거나 숫자가 아니면 NumberFormatException)
+        public long parseLong() {
+            int i = start;
+            boolean negative = false;
+            if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+                negative = source.charAt(i++) == '-';
+            }
+            if (i == end) throw new NumberFormatException("숫자가 아님: \"" + this + "\"");
+            long value = 0;
+            for (; i < end; i++) {
+                int d = Character.digit(source.charAt(i), 10);
+                if (d < 0) throw new NumberFormatException("숫자가 아님: \"" + this + "\"");
+                // 음수 쪽으로 누적해야 Long.MIN_VALUE까지 표현 가능
+                if (value < (Long.MIN_VALUE + d) / 10) throw new NumberFormatException("범위 초과: \"" + this + "\"");
+                value = value * 10 - d;
+            }
+            if (!negative) {
+                if (value == Long.MIN_VALUE) throw new NumberFormatException("범위 초과: \"" + this + "\"");
+                value = -value;
+            }
+            return value;
+        }
+
+        public int parseInt() {
+            long value = parseLong();
+            if (value != (int) value) throw new NumberFormatException("범위 초과: \"" + this + "\"");
+            return (int) value;
+        }
+
+        @Override
+        public java.lang.String toString() {
+            return source.subSequence(start, end).toString();
+        }
+    }
+
+    // 4. 토큰을 하나씩 진행하는 커서 (끝쪽 빈 토큰도 돌려줌, split(regex, -1)과 같은 순서)
+    public final class Cursor {
+        private final Slice slice = new Slice();
+        private final Matcher matcher = pattern == null ? null : pattern.matcher("");
+        private CharSequence text;
+        private int pos;         // 다음 토큰 시작 위치
+        private boolean done;
+
+        // 다른 텍스트로 다시 시작 (Slice, Matcher 재사용)
+        public Cursor reset(CharSequence text) {
+            this.text = text;
+            this.pos = 0;
+            this.done = false;
+            if (matcher != null) matcher.reset(text);
+            return this;
+        }
+
+        public Slice slice() {
+            return slice;
+        }
+
+        public boolean next() {
+            if (done) return false;
+            int n = text.length();
+            int tokenEnd, nextPos;
+            boolean found;
+            switch (mode) {
+                case CHAR: {
+                    int i = pos;
+                    while (i < n && text.charAt(i) != delimiterChar) i++;
+                    found = i < n;
+                    tokenEnd = i;
+                    nextPos = i + 1;
+                    break;
+                }
+                case LITERAL: {
+                    tokenEnd = indexOfLiteral(pos);
+                    found = tokenEnd >= 0;
+                    nextPos = tokenEnd + literal.length();
+                    break;
+                }
+                default: {
+                    found = false;
+                    tokenEnd = nextPos = n;
+                    while (matcher.find()) {
+                        // 맨 앞의 길이 0 매칭은 빈 토큰을 만들지 않음 (String.split과 같음)
+                        if (matcher.end() == 0) continue;
+                        found = true;
+                        tokenEnd = matcher.start();
+                        nextPos = matcher.end();
+                        break;
+                    }
+                    break;
+                }
+            }
+            if (found) {
+                slice.set(text, pos, tokenEnd);
+                pos = nextPos;
+            } else {
+                slice.set(text, pos, n);
+                done = true;
+            }
+            return true;
+        }
+
+        private int indexOfLiteral(int from) {
+            int m = literal.length();
+            char first = literal.charAt(0);
+            for (int i = from, last = text.length() - m; i <= last; i++) {
+                if (text.charAt(i) != first) continue;
+                int k = 1;
+                while (k < m && text.charAt(i + k) == literal.charAt(k)) k++;
+                if (k == m) return i;
+            }
+            return -1;
+        }
+    }
+
+    // 5. 단어 순서 뒤집기 (제자리): 전체를 뒤집고 단어마다 다시 뒤집은 뒤 공백을 하나로 줄여 앞으로 당김
+    // 공백 문자는 정규식 \s와 같음, 반환값은 결과 길이 ([from, 반환값)이 결과)
+    public static int reverseWords(char[] chars, int from, int to) {
+        reverse(chars, from, to);
+        int write = from;
+        int i = from;
+        while (i < to) {
+            while (i < to && isSpace(chars[i])) i++;
+            if (i == to) break;
+            int wordStart = i;
+            while (i < to && !isSpace(chars[i])) i++;
+            reverse(chars, wordStart, i);
+            if (write > from) chars[write++] = ' ';
+            System.arraycopy(chars, wordStart, chars, write, i - wordStart);
+            write += i - wordStart;
+        }
+        return write;
+    }
+
+    private static void reverse(char[] chars, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            char t = chars[i];
+            chars[i] = chars[j];
+            chars[j] = t;
+        }
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) {
+        System.out.println("===== 토크나이저 테스트 =====\n");
+
+        Tokenizer comma = of(",");
+        Cursor cursor = comma.cursor("");
+        long sum = 0;
+        for (java.lang.String line : new java.lang.String[]{"1,2,3", "10,20,30"}) {
+            cursor.reset(line);
+            while (cursor.next()) sum += cursor.slice().parseLong();
+        }
+        System.out.println("1. CSV 숫자 합계 (토큰 String 생성 없음): " + sum);
+        System.out.println("2. '::' 분할: " + of("::").split("a::b::::c"));
+        System.out.println("3. 정규식 '\\\\s*;\\\\s*' 분할: " + of("\\s*;\\s*").split("x ; y;z"));
+
+        char[] words = "  Hello   World  Java  ".toCharArray();
+        int length = reverseWords(words, 0, words.length);
+        System.out.println("4. 제자리 단어 뒤집기: '" + new java.lang.String(words, 0, length) + "'");
+    }
+}
@@ -0,0 +1,311 @@
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * String으로 만들지 않고 UTF-8 바이트(ByteBuffer / 메모리 매핑 파일)를 바로 읽는 텍스트 분석
+ * - 코드 포인트 빈도수: ASCII는 long[128], 나머지는 IntIntHashMap(코드 포인트 -> 칸) + long[] 개수
+ * - 팰린드롬: 양 끝 두 커서로 ASCII 영숫자만 비교 (복사 없음)
+ *   UTF-8의 멀티바이트 문자는 모든 바이트가 0x80 이상이라 디코딩 없이 건너뛸 수 있음
+ * - 첫 번째로 한 번만 나오는 코드 포인트
+ * 파일은 CHUNK 단위로 나눠 병렬로 처리하고, 조각 경계는 UTF-8 문자 시작 위치로 맞춤
+ * 잘못된 바이트열은 바이트 하나당 U+FFFD 하나로 셈
+ */
+public class Utf8Text {
+
+    static final int CHUNK = 1 << 26;  // 64MB
+    static final int REPLACEMENT = 0xFFFD;
+    private static final int ASCII = 128;
+    private static final int MAX_SEQUENCE = 4;
+
+    // 코드 포인트별 개수 (박싱 없음)
+    public static final class Frequencies {
+        private final long[] ascii = new long[ASCII];
+        private final IntIntHashMap slots = new IntIntHashMap();
+        private long[] counts = new long[16];
+        private long total;
+
+        @FunctionalInterface
+        public interface CodePointCount {
+            void accept(int codePoint, long count);
+        }
+
+        void add(int codePoint, long count) {
+            total += count;
+            if (codePoint < ASCII) {
+                ascii[codePoint] += count;
+                return;
+            }
+            int slot = slots.getOrDefault(codePoint, -1);
+            if (slot < 0) {
+                slot = slots.size();
+                slots.put(codePoint, slot);
+                if (slot == counts.length) counts = Arrays.copyOf(counts, slot * 2);
+            }
+            counts[slot] += count;
+        }
+
+        public long count(int codePoint) {
+            if (codePoint >= 0 && codePoint < ASCII) return ascii[codePoint];
+            int slot = slots.getOrDefault(codePoint, -1);
+            return slot < 0 ? 0 : counts[slot];
+        }
+
+        // 전체 코드 포인트 수
+        public long total() {
+            return total;
+        }
+
+        public int distinct() {
+            int d = slots.size();
+            for (long c : ascii) {
+                if (c > 0) d++;
+            }
+            return d;
+        }
+
+        // ASCII는 코드 포인트 순서, 그 외는 순서 없음
+        public void forEach(CodePointCount action) {
+            for (int c = 0; c < ASCII; c++) {
+                if (ascii[c] > 0) action.accept(c, ascii[c]);
+            }
+            slots.forEach((codePoint, slot) -> action.accept(codePoint, counts[slot]));
+        }
+
+        public Frequencies merge(Frequencies other) {
+            long asciiTotal = 0;
+            for (int c = 0; c < ASCII; c++) {
+                ascii[c] += other.ascii[c];
+                asciiTotal += other.ascii[c];
+            }
+            total += asciiTotal;
+            other.slots.forEach((codePoint, slot) -> add(codePoint, other.counts[slot]));
+            return this;
+        }
+    }
+
+    // 1. 위치 i부터 코드 포인트 하나를 디코딩, (길이 << 32) | 코드 포인트로 반환
+    // limit 너머는 읽지 않음, 잘못되었거나 잘린 바이트열은 길이 1의 U+FFFD
+    static long decode(ByteBuffer buf, int i, int limit) {
+        int b0 = buf.get(i) & 0xFF;
+        if (b0 < 0x80) return (1L << 32) | b0;
+        int len, cp, min;
+        if (b0 >= 0xC2 && b0 <= 0xDF) {
+            len = 2;
+            cp = b0 & 0x1F;
+            min = 0x80;
+        } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+            len = 3;
+            cp = b0 & 0x0F;
+            min = 0x800;
+        } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+            len = 4;
+            cp = b0 & 0x07;
+            min = 0x10000;
+        } else {
+            return (1L << 32) | REPLACEMENT;
+        }
+        if (i + len > limit) return (1L << 32) | REPLACEMENT;
+        for (int k = 1; k < len; k++) {
+            int b = buf.get(i + k) & 0xFF;
+            if ((b & 0xC0) != 0x80) return (1L << 32) | REPLACEMENT;
+            cp = (cp << 6) | (b & 0x3F);
+        }
+        // 과잉 길이 인코딩, 서로게이트, 범위 초과 거부
+        if (cp < min || (cp >= 0xD800 && cp <= 0xDFFF) || cp > Character.MAX_CODE_POINT) {
+            return (1L << 32) | REPLACEMENT;
+        }
+        return ((long) len << 32) | cp;
+    }
+
+    private static boolean isContinuation(ByteBuffer buf, int i) {
+        return (buf.get(i) & 0xC0) == 0x80;
+    }
+
+    // 2. 위치 s 이후 첫 코드 포인트 시작 위치 (앞에서부터 순서대로 디코딩했을 때와 같은 경계)
+    // s가 연속 바이트이면 최대 3바이트 앞의 선두 바이트를 찾아, 그 문자가 s를 덮으면 그 끝으로 이동
+    static int syncPoint(ByteBuffer buf, int s, int lo, int limit) {
+        if (s <= lo || s >= limit || !isContinuation(buf, s)) return s;
+        for (int q = s - 1; q >= java.lang.Math.max(lo, s - (MAX_SEQUENCE - 1)); q--) {
+            if (!isContinuation(buf, q)) {
+                int len = (int) (decode(buf, q, limit) >>> 32);
+                return q + len > s ? q + len : s;
+            }
+        }
+        return s;
+    }
+
+    // [from, to)에서 시작하는 코드 포인트를 셈 (마지막 문자는 limit까지 읽을 수 있음)
+    private static void count(ByteBuffer buf, int from, int to, int limit, Frequencies freq) {
+        long[] ascii = freq.ascii;
+        int i = from;
+        while (i < to) {
+            int b = buf.get(i);
+            if (b >= 0) {
+                // ASCII 빠른 경로
+                ascii[b]++;
+                freq.total++;
+                i++;
+            } else {
+                long d = decode(buf, i, limit);
+                freq.add((int) d, 1);
+                i += (int) (d >>> 32);
+            }
+        }
+    }
+
+    // 3. 코드 포인트 빈도수 (buf의 position ~ limit, position은 바꾸지 않음)
+    public static Frequencies frequencies(ByteBuffer buf) {
+        int lo = buf.position(), hi = buf.limit();
+        int chunks = java.lang.Math.max(1, (hi - lo + CHUNK - 1) / CHUNK);
+        return IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            int start = syncPoint(buf, lo + (int) ((long) (hi - lo) * c / chunks), lo, hi);
+            int end = syncPoint(buf, lo + (int) ((long) (hi - lo) * (c + 1) / chunks), lo, hi);
+            Frequencies f = new Frequencies();
+            count(buf, start, end, hi, f);
+            return f;
+        }).reduce(Frequencies::merge).get();
+    }
+
+    // 파일을 조각마다 따로 매핑해서 병렬로 셈 (2GB보다 큰 파일도 가능)
+    public static Frequencies frequencies(Path file) throws IOException {
+        return frequencies(file, CHUNK);
+    }
+
+    static Frequencies frequencies(Path file, int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) java.lang.Math.max(1, (size + chunkSize - 1) / chunkSize);
+            try {
+                return IntStream.range(0, chunks).parallel().mapToObj(c -> {
+                    try {
+                        return countFileChunk(channel, size, (long) c * chunkSize,
+                            java.lang.Math.min(size, (long) (c + 1) * chunkSize));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).reduce(Frequencies::merge).get();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // 조각 앞뒤로 3바이트씩 더 매핑해 경계에 걸친 문자를 판단
+    private static Frequencies countFileChunk(FileChannel channel, long size, long start, long end) throws IOException {
+        long mapFrom = java.lang.Math.max(0, start - (MAX_SEQUENCE - 1));
+        long mapTo = java.lang.Math.min(size, end + MAX_SEQUENCE - 1);
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, mapFrom, mapTo - mapFrom);
+        int limit = (int) (mapTo - mapFrom);
+        int from = syncPoint(buf, (int) (start - mapFrom), 0, limit);
+        int to = end == size ? limit : syncPoint(buf, (int) (end - mapFrom), 0, limit);
+        Frequencies f = new Frequencies();
+        count(buf, from, to, limit, f);
+        return f;
+    }
+
+    // 4. 팰린드롬 확인 (대소문자 무시, ASCII 영숫자만 비교)
+    public static boolean isPalindrome(ByteBuffer buf) {
+        int i = buf.position(), j = buf.limit() - 1;
+        while (true) {
+            while (i < j && !isAlphanumeric(buf.get(i))) i++;
+            while (i < j && !isAlphanumeric(buf.get(j))) j--;
+            if (i >= j) return true;
+            if (toLower(buf.get(i++)) != toLower(buf.get(j--))) return false;
+        }
+    }
+
+    // 앞뒤에서 각각 CHUNK 크기 창을 매핑하며 이동
+    public static boolean isPalindrome(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Window front = new Window(channel), back = new Window(channel);
+            long i = 0, j = channel.size() - 1;
+            while (true) {
+                while (i < j && !isAlphanumeric(front.get(i, true))) i++;
+                while (i < j && !isAlphanumeric(back.get(j, false))) j--;
+                if (i >= j) return true;
+                if (toLower(front.get(i++, true)) != toLower(back.get(j--, false))) return false;
+            }
+        }
+    }
+
+    private static final class Window {
+        private final FileChannel channel;
+        private MappedByteBuffer buf;
+        private long base = -1;
+
+        Window(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        // forward이면 pos부터 뒤로, 아니면 pos까지 앞쪽을 매핑
+        byte get(long pos, boolean forward) throws IOException {
+            if (buf == null || pos < base || pos >= base + buf.limit()) {
+                long size = channel.size();
+                base = forward ? pos : java.lang.Math.max(0, pos - CHUNK + 1);
+                buf = channel.map(FileChannel.MapMode.READ_ONLY, base, java.lang.Math.min(CHUNK, size - base));
+            }
+            return buf.get((int) (pos - base));
+        }
+    }
+
+    private static boolean isAlphanumeric(byte b) {
+        return (b >= '0' && b <= '9') || (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    private static int toLower(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+
+    // 5. 한 번만 나오는 첫 코드 포인트 (없으면 -1)
+    public static int firstUniqueCodePoint(ByteBuffer buf) {
+        Frequencies freq = frequencies(buf);
+        for (int i = buf.position(), hi = buf.limit(); i < hi; ) {
+            long d = decode(buf, i, hi);
+            if (freq.count((int) d) == 1) return (int) d;
+            i += (int) (d >>> 32);
+        }
+        return -1;
+    }
+
+    public static int firstUniqueCodePoint(Path file) throws IOException {
+        Frequencies freq = frequencies(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long pos = 0;
+            while (pos < size) {
+                long length = java.lang.Math.min(CHUNK, size - pos);
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+                int limit = (int) length;
+                int i = 0;
+                // 마지막 몇 바이트에 걸친 문자는 다음 창에서 처음부터 다시 디코딩
+                int stop = pos + length == size ? limit : limit - (MAX_SEQUENCE - 1);
+                while (i < stop) {
+                    long d = decode(buf, i, limit);
+                    if (freq.count((int) d) == 1) return (int) d;
+                    i += (int) (d >>> 32);
+                }
+                pos += i;
+            }
+            return -1;
+        }
+    }
+
+    // ==================== 테스트 코드 ====================
+    public static void main(String[] args) throws IOException {
+        System.out.println("===== UTF-8 스트리밍 분석 테스트 =====\n");
+
+        ByteBuffer text = ByteBuffer.wrap("가나다 가나 abc a".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        Frequencies freq = frequencies(text);
+        System.out.println("1. '가' 개수: " + freq.count('가') + ", 'a' 개수: " + freq.count('a') + ", 전체: " + freq.total());
+
+        ByteBuffer palindrome = ByteBuffer.wrap("A man, 한 a plan, a canal: Panama".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        System.out.println("2. 팰린드롬: " + isPalindrome(palindrome));
+
+        int unique = firstUniqueCodePoint(text);
+        System.out.println("3. 처음으로 한 번만 나오는 문자: " + new java.lang.String(Character.toChars(unique)));
+    }
+}